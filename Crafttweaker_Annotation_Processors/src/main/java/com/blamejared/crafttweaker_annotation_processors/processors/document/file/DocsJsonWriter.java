@@ -5,13 +5,18 @@ import com.blamejared.crafttweaker_annotation_processors.processors.document.pag
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 public class DocsJsonWriter {
     
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting()
+            .registerTypeAdapter(TableOfContent.class, new TableOfContentTypeAdapter())
+            .create();
+    
     private final File outputFile;
     private final DocumentRegistry registry;
     private final Navigation navigation = new Navigation();
@@ -28,16 +33,12 @@ public class DocsJsonWriter {
     
     private void writeTableOfContent() throws IOException {
         final File outputFile = new File(this.outputFile, "docs.json");
-        try(final BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
-            final Gson gson = getGson();
-            writer.write(gson.toJson(navigation));
+        final byte[] content = GSON.toJson(navigation).getBytes(Charset.defaultCharset());
+        //Keep the file untouched if nothing changed, so tools watching the docs don't rebuild everything
+        if(outputFile.exists() && Arrays.equals(content, Files.readAllBytes(outputFile.toPath()))) {
+            return;
         }
-    }
-    
-    private Gson getGson() {
-        return new GsonBuilder().setPrettyPrinting()
-                .registerTypeAdapter(TableOfContent.class, new TableOfContentTypeAdapter())
-                .create();
+        Files.write(outputFile.toPath(), content);
     }
     
     private void fillTableOfContent() {
@@ -2,20 +2,41 @@ package com.blamejared.crafttweaker_annotation_processors.processors.document.fi
 
 import com.blamejared.crafttweaker_annotation_processors.processors.document.DocumentRegistry;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.page.DocumentationPage;
-import com.blamejared.crafttweaker_annotation_processors.processors.util.files.DeletingPathVisitor;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Writes all documentation pages to the output directory.
+ *
+ * Pages are rendered in parallel and only written if their content changed since the last compilation, which is tracked
+ * through a manifest of content hashes. Pages of the previous manifest that no page produces anymore are deleted, any
+ * other file in the output directory is left alone.
+ */
 public class PageWriter {
     
     public static final String extension = ".md";
+    public static final String manifestFileName = ".page_manifest";
     
     private final DocumentRegistry documentRegistry;
     private final File outputDirectory;
+    private final Charset charset = Charset.defaultCharset();
     
     public PageWriter(DocumentRegistry documentRegistry, File outputDirectory) {
         this.documentRegistry = documentRegistry;
@@ -23,13 +44,12 @@ public class PageWriter {
     }
     
     public void write() throws IOException {
-        clearOutputDirectory();
-        writePages();
-    }
-    
-    private void clearOutputDirectory() throws IOException {
         ensureOutputDirectoryExists();
-        Files.walkFileTree(outputDirectory.getAbsoluteFile().toPath(), new DeletingPathVisitor());
+        final Map<String, RenderedPage> pages = renderPages();
+        final Map<String, String> manifest = readManifest();
+        writeChangedPages(pages.values(), manifest);
+        deleteOrphanedPages(manifest.keySet(), pages.keySet());
+        writeManifest(pages);
     }
     
     private void ensureOutputDirectoryExists() {
@@ -38,28 +58,133 @@ public class PageWriter {
         }
     }
     
-    private void writePages() throws IOException {
-        for(DocumentationPage page : documentRegistry.getAllPages()) {
-            writePage(page);
+    private Map<String, RenderedPage> renderPages() {
+        final List<RenderedPage> renderedPages = documentRegistry.getAllPages()
+                .parallelStream()
+                .map(this::renderPage)
+                .collect(Collectors.toList());
+        
+        final Map<String, RenderedPage> result = new TreeMap<>();
+        for(RenderedPage page : renderedPages) {
+            //Last one wins, same as when the files were written one after another
+            result.put(page.path, page);
+        }
+        return result;
+    }
+    
+    private RenderedPage renderPage(DocumentationPage page) {
+        final StringWriter content = new StringWriter();
+        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(content))) {
+            page.write(writer);
         }
+        final String path = toManifestPath(page.pageInfo.getOutputPathWithExtension(extension));
+        return new RenderedPage(path, content.toString());
+    }
+    
+    private void writeChangedPages(Collection<RenderedPage> pages, Map<String, String> manifest) {
+        pages.parallelStream()
+                .filter(page -> !page.hash.equals(manifest.get(page.path)) || !getFile(page.path).exists())
+                .forEach(this::writePage);
     }
     
-    private void writePage(DocumentationPage page) throws IOException {
-        final File file = new File(outputDirectory, page.pageInfo.getOutputPathWithExtension(extension));
+    private void writePage(RenderedPage page) {
+        final File file = getFile(page.path);
         ensureDirectoryExistsFor(file);
-        writePageInfoAt(page, file);
+        try {
+            Files.write(file.toPath(), page.content.getBytes(charset));
+        } catch(IOException exception) {
+            throw new UncheckedIOException("Could not write page " + file, exception);
+        }
     }
     
     private void ensureDirectoryExistsFor(File file) {
         final File parentFile = file.getParentFile();
-        if(!parentFile.exists() && !parentFile.mkdirs()) {
+        if(!parentFile.exists() && !parentFile.mkdirs() && !parentFile.isDirectory()) {
             throw new IllegalArgumentException("Could not create parent file for " + file);
         }
     }
     
-    private void writePageInfoAt(DocumentationPage page, File file) throws IOException {
-        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(new FileWriter(file)))) {
-            page.write(writer);
+    private void deleteOrphanedPages(Set<String> previousPaths, Set<String> writtenPaths) throws IOException {
+        final Path root = outputDirectory.getAbsoluteFile().toPath();
+        for(String path : previousPaths) {
+            if(writtenPaths.contains(path)) {
+                continue;
+            }
+            final Path file = root.resolve(path).normalize();
+            if(!file.startsWith(root) || !Files.deleteIfExists(file)) {
+                continue;
+            }
+            //Folders that only held orphaned pages go as well
+            Path directory = file.getParent();
+            while(directory != null && !directory.equals(root) && isEmptyDirectory(directory)) {
+                Files.delete(directory);
+                directory = directory.getParent();
+            }
+        }
+    }
+    
+    private boolean isEmptyDirectory(Path directory) throws IOException {
+        try(final Stream<Path> children = Files.list(directory)) {
+            return !children.findAny().isPresent();
+        }
+    }
+    
+    private Map<String, String> readManifest() throws IOException {
+        final Map<String, String> manifest = new TreeMap<>();
+        final File manifestFile = new File(outputDirectory, manifestFileName);
+        if(!manifestFile.exists()) {
+            return manifest;
+        }
+        
+        for(String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            final int separator = line.indexOf(' ');
+            if(separator > 0) {
+                manifest.put(line.substring(separator + 1), line.substring(0, separator));
+            }
+        }
+        return manifest;
+    }
+    
+    private void writeManifest(Map<String, RenderedPage> pages) throws IOException {
+        final List<String> lines = pages.values()
+                .stream()
+                .map(page -> page.hash + " " + page.path)
+                .collect(Collectors.toList());
+        Files.write(new File(outputDirectory, manifestFileName).toPath(), lines, StandardCharsets.UTF_8);
+    }
+    
+    private File getFile(String manifestPath) {
+        return new File(outputDirectory, manifestPath);
+    }
+    
+    private static String toManifestPath(String path) {
+        return path.replace(File.separatorChar, '/');
+    }
+    
+    private static String hash(String content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder builder = new StringBuilder(digest.length * 2);
+            for(byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch(NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+    
+    private static final class RenderedPage {
+        
+        private final String path;
+        private final String content;
+        private final String hash;
+        
+        private RenderedPage(String path, String content) {
+            this.path = path;
+            this.content = content;
+            this.hash = hash(content);
         }
     }
 }
@@ -6,24 +6,33 @@ import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
 import com.blamejared.crafttweaker.api.logger.LogLevel;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.api.zencode.brackets.CTRegisterBEPEvent;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import com.blamejared.crafttweaker.impl.actions.brewing.BrewingIndex;
+import com.blamejared.crafttweaker.impl.actions.items.ActionSetItemProperties;
 import com.blamejared.crafttweaker.impl.brackets.RecipeTypeBracketHandler;
 import com.blamejared.crafttweaker.impl.brackets.tags.TagBracketHandler;
 import com.blamejared.crafttweaker.impl.brackets.tags.TagManagerBracketHandler;
 import com.blamejared.crafttweaker.impl.commands.CTCommands;
 import com.blamejared.crafttweaker.impl.commands.custom.CustomCommands;
 import com.blamejared.crafttweaker.impl.events.CTClientEventHandler;
+import com.blamejared.crafttweaker.impl.events.CTEventManager;
 import com.blamejared.crafttweaker.impl.events.CTEventHandler;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import com.blamejared.crafttweaker.impl.logger.GroupLogger;
 import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionManager;
-import com.blamejared.crafttweaker.impl.managers.CTCraftingTableManager;
+import com.blamejared.crafttweaker.impl.loot.modifiers.CTLootModifierManager;
+import com.blamejared.crafttweaker.impl.managers.RecipeMapOverlay;
+import com.blamejared.crafttweaker.impl.managers.RecipeNameRegistry;
 import com.blamejared.crafttweaker.impl.network.PacketHandler;
+import com.blamejared.crafttweaker.impl.predicate.VanillaPredicateCache;
+import com.blamejared.crafttweaker.impl.script.IncrementalReload;
 import com.blamejared.crafttweaker.impl.script.ScriptRecipe;
 import com.blamejared.crafttweaker.impl.tag.registry.CrTTagRegistryData;
+import com.google.common.hash.HashCode;
 import net.minecraft.block.Block;
 import net.minecraft.client.resources.ReloadListener;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeType;
-import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.profiler.IProfiler;
 import net.minecraft.resources.IResourceManager;
 import net.minecraft.server.MinecraftServer;
@@ -63,6 +72,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
@@ -109,6 +119,15 @@ public class CraftTweaker {
         
         CraftTweakerRegistries.init();
         
+        // Brewing removals, loot modifiers, item properties, recipe names and event handler removals are staged and applied in one sweep
+        ScriptRun.addRunFinishedListener(run -> BrewingIndex.finishRun());
+        ScriptRun.addRunFinishedListener(CTLootModifierManager.LOOT_MODIFIER_MANAGER::finishRun);
+        ScriptRun.addRunFinishedListener(ActionSetItemProperties::finishRun);
+        ScriptRun.addRunFinishedListener(RecipeNameRegistry::finishRun);
+        ScriptRun.addRunFinishedListener(IngredientInterner::finishRun);
+        ScriptRun.addRunFinishedListener(VanillaPredicateCache::finishRun);
+        ScriptRun.addRunFinishedListener(run -> CTEventManager.finishRemovals());
+        
         new Thread(() -> {
             try {
                 URL url = new URL("https://blamejared.com/patrons.txt");
@@ -195,14 +214,11 @@ public class CraftTweaker {
             // probably joining single player, but possible the server doesn't have any recipes as well, either way, don't reload scripts!
             return;
         }
-        //ImmutableMap of ImmutableMaps. Nice.
-        RecipeManager recipeManager = event.getRecipeManager();
-        recipeManager.recipes = new HashMap<>(recipeManager.recipes);
-        recipeManager.recipes.replaceAll((t, v) -> new HashMap<>(recipeManager.recipes.get(t)));
+        //ImmutableMap of ImmutableMaps, recipe type maps are only copied once a script modifies them.
+        RecipeMapOverlay.install(event.getRecipeManager());
         
         CTClientEventHandler.TOOLTIPS.clear();
         serverOverride = false;
-        CTCraftingTableManager.recipeManager = event.getRecipeManager();
         final ScriptLoadingOptions scriptLoadingOptions = new ScriptLoadingOptions().execute();
         CraftTweakerAPI.loadScriptsFromRecipeManager(event.getRecipeManager(), scriptLoadingOptions);
     }
@@ -228,38 +244,34 @@ public class CraftTweaker {
     @SubscribeEvent(priority = EventPriority.LOW)
     public void resourceReload(AddReloadListenerEvent event) {
         
-        event.addListener(new ReloadListener<Void>() {
+        event.addListener(new ReloadListener<Optional<HashCode>>() {
             @Override
             @Nonnull
             @ParametersAreNonnullByDefault
-            protected Void prepare(IResourceManager resourceManagerIn, IProfiler profilerIn) {
+            protected Optional<HashCode> prepare(IResourceManager resourceManagerIn, IProfiler profilerIn) {
                 
                 MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
                 serverOverride = server == null;
-                return null;
+                return Optional.ofNullable(IncrementalReload.fingerprintData(resourceManagerIn));
             }
             
             @Override
             @ParametersAreNonnullByDefault
-            protected void apply(Void objectIn, IResourceManager resourceManagerIn, IProfiler profilerIn) {
+            protected void apply(Optional<HashCode> dataFingerprint, IResourceManager resourceManagerIn, IProfiler profilerIn) {
                 
                 giveFeedback(new StringTextComponent("CraftTweaker reload starting!"));
-                //ImmutableMap of ImmutableMaps. Nice.
-                RecipeManager recipeManager = event.getDataPackRegistries().getRecipeManager();
-                recipeManager.recipes = new HashMap<>(recipeManager.recipes);
-                recipeManager.recipes.replaceAll((t, v) -> new HashMap<>(recipeManager.recipes.get(t)));
-                CTCraftingTableManager.recipeManager = recipeManager;
-                CraftTweakerAPI.loadScripts(new ScriptLoadingOptions().execute());
+                //ImmutableMap of ImmutableMaps, recipe type maps are only copied once a script modifies them.
+                RecipeMapOverlay overlay = RecipeMapOverlay.install(event.getDataPackRegistries().getRecipeManager());
+                //Only the scripts affected by a change are run again if they just modify recipes
+                IncrementalReload.load(overlay, new ScriptLoadingOptions().execute(), dataFingerprint.orElse(null));
                 List<File> scriptFiles = CraftTweakerAPI.getScriptFiles();
+                Map<ResourceLocation, IRecipe<?>> scriptRecipes = overlay.mutable(RECIPE_TYPE_SCRIPTS);
                 scriptFiles.stream()
                         .map(file -> new ScriptRecipe(new ResourceLocation(MODID, file.getPath()
                                 .substring("scripts\\".length())
                                 .replaceAll("[^a-z0-9_.-]", "_")), file.getPath()
                                 .substring("scripts\\".length()), readContents(file)))
-                        .forEach(scriptRecipe -> {
-                            Map<ResourceLocation, IRecipe<?>> map = recipeManager.recipes.computeIfAbsent(RECIPE_TYPE_SCRIPTS, iRecipeType -> new HashMap<>());
-                            map.put(scriptRecipe.getId(), scriptRecipe);
-                        });
+                        .forEach(scriptRecipe -> scriptRecipes.put(scriptRecipe.getId(), scriptRecipe));
                 
                 TextComponent msg = new StringTextComponent("CraftTweaker reload complete!");
                 giveFeedback(msg);
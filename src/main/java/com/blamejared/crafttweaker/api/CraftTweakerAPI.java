@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api;
 
 import com.blamejared.crafttweaker.CraftTweaker;
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.actions.IAction;
 import com.blamejared.crafttweaker.api.actions.IRuntimeAction;
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
@@ -8,18 +9,23 @@ import com.blamejared.crafttweaker.api.logger.ILogger;
 import com.blamejared.crafttweaker.api.logger.LogLevel;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.api.mods.MCMods;
+import com.blamejared.crafttweaker.api.zencode.brackets.CTRegisterBEPEvent;
 import com.blamejared.crafttweaker.api.zencode.expands.IDataRewrites;
 import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
 import com.blamejared.crafttweaker.api.zencode.impl.loaders.LoaderActions;
 import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
 import com.blamejared.crafttweaker.impl.game.MCGame;
+import com.blamejared.crafttweaker.impl.logger.DeferredLogger;
 import com.blamejared.crafttweaker.impl.logger.FileLogger;
 import com.blamejared.crafttweaker.impl.logger.GroupLogger;
+import com.blamejared.crafttweaker.impl.profiler.ScriptProfiler;
+import com.blamejared.crafttweaker.impl.script.IncrementalReload;
 import com.blamejared.crafttweaker.impl.script.ScriptRecipe;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
 import net.minecraftforge.fml.common.thread.EffectiveSide;
 import org.openzen.zencode.java.ScriptingEngine;
 import org.openzen.zencode.java.ZenCodeGlobals;
@@ -28,6 +34,7 @@ import org.openzen.zencode.shared.SourceFile;
 import org.openzen.zenscript.parser.expression.ParsedExpressionArray;
 import org.openzen.zenscript.parser.expression.ParsedExpressionMap;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.StringReader;
 import java.util.ArrayList;
@@ -36,6 +43,8 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 @ZenRegister
 @ZenCodeType.Name("crafttweaker.api.CraftTweakerAPI")
@@ -54,11 +63,36 @@ public class CraftTweakerAPI {
     
     public static boolean DEBUG_MODE = false;
     public static boolean NO_BRAND = false;
+    /**
+     * Set by the {@code #quietlog} preprocessor. Action descriptions are then only rendered at debug level or through
+     * {@code /ct dump actions} instead of being logged for every applied action.
+     */
+    public static boolean QUIET_LOG = false;
+    /**
+     * Set by the {@code #intern} preprocessor. Structurally equal immutable ingredients created by the scripts are then
+     * shared, see {@link com.blamejared.crafttweaker.impl.ingredients.IngredientInterner}.
+     */
+    public static boolean INTERN_INGREDIENTS = false;
+    /**
+     * Set by the {@code #incrementalreload} preprocessor. A reload then only runs the scripts that are affected by a
+     * change again, see {@link IncrementalReload}.
+     */
+    public static boolean INCREMENTAL_RELOAD = false;
     
     /**
      * The last ScriptRun that was executed is regarded as "current" run.
      */
-    private static ScriptRun currentRun;
+    private static volatile ScriptRun currentRun;
+    
+    /**
+     * Runs that are prepared in parallel are only "current" on the thread that prepares them.
+     */
+    private static final ThreadLocal<ScriptRun> PREPARING_RUN = new ThreadLocal<>();
+    
+    /**
+     * Replaces {@link #logger} for the log methods of this class on one thread, see {@link #setThreadLogger(ILogger)}.
+     */
+    private static final ThreadLocal<ILogger> THREAD_LOGGER = new ThreadLocal<>();
     
     static {
         ParsedExpressionMap.compileOverrides.add(IDataRewrites::rewriteMap);
@@ -69,6 +103,7 @@ public class CraftTweakerAPI {
     public static void apply(IAction action) {
         
         final ScriptRun currentRun = getCurrentRun();
+        IncrementalReload.record(action);
         if(!(action instanceof IRuntimeAction) && !currentRun.isFirstRun()) {
             return;
         }
@@ -79,16 +114,15 @@ public class CraftTweakerAPI {
                 return;
             }
             
-            if(!action.validate(logger)) {
+            if(!action.validate(getLogger())) {
                 currentLoaderActions.addInvalidAction(action);
                 return;
             }
             
-            final String describe = action.describe();
-            if(describe != null && !describe.isEmpty()) {
-                logger.info(describe);
-            }
+            logDescription(action);
+            final long start = ScriptProfiler.begin();
             action.apply();
+            ScriptProfiler.recordAction(action, start);
             currentLoaderActions.addValidAction(action);
         } catch(Exception e) {
             logThrowing("Error running action", e);
@@ -96,6 +130,40 @@ public class CraftTweakerAPI {
     }
     
     
+    /**
+     * Applies a change that is added to an action which was already applied through {@link #apply(IAction)} in the
+     * current run, like another edit of a batch.
+     *
+     * The change is checked, profiled and isolated like an action, but its description is only logged at debug level and
+     * it is not stored again.
+     *
+     * @param action      The action the change is added to.
+     * @param description The description of the change.
+     * @param change      Applies the change to the action.
+     */
+    public static void applyToBatch(IAction action, ActionDescription description, Runnable change) {
+        
+        IncrementalReload.record(action);
+        try {
+            if(!action.shouldApplyOn(EffectiveSide.get()) || !action.validate(getLogger())) {
+                return;
+            }
+            
+            getLogger().log(LogLevel.DEBUG, description);
+            final long start = ScriptProfiler.begin();
+            change.run();
+            ScriptProfiler.recordAction(action, start);
+        } catch(Exception e) {
+            logThrowing("Error running action", e);
+        }
+    }
+    
+    private static void logDescription(IAction action) {
+        
+        // Only rendered by the loggers that actually log the level
+        getLogger().log(QUIET_LOG ? LogLevel.DEBUG : LogLevel.INFO, action.describeDeferred());
+    }
+    
     public static List<File> getScriptFiles() {
         
         List<File> fileList = new ArrayList<>();
@@ -112,19 +180,31 @@ public class CraftTweakerAPI {
     public static void loadScripts(ScriptLoadingOptions scriptLoadingOptions) {
         
         NO_BRAND = false;
+        QUIET_LOG = false;
+        INTERN_INGREDIENTS = false;
+        loadScripts(getSourceFiles(scriptLoadingOptions), scriptLoadingOptions);
+    }
+    
+    /**
+     * Reads and preprocesses the scripts in CraftTweaker's default scripts directory, without running them.
+     *
+     * @param scriptLoadingOptions The options, used for the Preprocessors
+     *
+     * @return The source files that should be loaded, in load order.
+     */
+    public static SourceFile[] getSourceFiles(ScriptLoadingOptions scriptLoadingOptions) {
+        
         final List<File> fileList = getScriptFiles();
         
         final Comparator<FileAccessSingle> comparator = FileAccessSingle.createComparator(CraftTweakerRegistry
                 .getPreprocessors());
-        SourceFile[] sourceFiles = fileList.stream()
+        return fileList.stream()
                 .map(file -> new FileAccessSingle(SCRIPT_DIR, file, scriptLoadingOptions, CraftTweakerRegistry
                         .getPreprocessors()))
                 .filter(FileAccessSingle::shouldBeLoaded)
                 .sorted(comparator)
                 .map(FileAccessSingle::getSourceFile)
                 .toArray(SourceFile[]::new);
-        
-        loadScripts(sourceFiles, scriptLoadingOptions);
     }
     
     /**
@@ -136,12 +216,89 @@ public class CraftTweakerAPI {
      */
     public static void loadScripts(SourceFile[] sourceFiles, ScriptLoadingOptions scriptLoadingOptions) {
         
-        currentRun = new ScriptRun(scriptLoadingOptions, sourceFiles);
+        runScripts(new ScriptRun(scriptLoadingOptions, sourceFiles));
+    }
+    
+    /**
+     * Loads the scripts of several loaders that don't depend on each other.
+     *
+     * The scripts of all loaders are read and their {@link CTRegisterBEPEvent}s are posted on the calling thread in the
+     * given order first, then the loaders are parsed and compiled in parallel on the server executor. Once all of them
+     * are compiled, they are executed one loader after another in the given order, so actions are applied exactly like
+     * they would be if every loader was loaded on its own.
+     *
+     * While they are compiled, the loaders share some state, which is only read at that point:
+     * <ul>
+     *     <li>The compile overrides of {@link ParsedExpressionMap} and {@link ParsedExpressionArray}, which are added
+     *     once when this class is initialized.</li>
+     *     <li>The static maps of the recipe type bracket handler, which are filled while the {@link CTRegisterBEPEvent}s
+     *     are posted on the calling thread, before any loader is compiled.</li>
+     *     <li>The registries and the tags, which don't change during common setup or a reload.</li>
+     * </ul>
+     * Nothing guarantees that ZenCode itself or the bracket handlers of other mods can be used from several threads at
+     * once, so only pass loaders whose scripts and bracket handlers are known to allow that. CraftTweaker loads its own
+     * loaders one at a time through {@link #loadScripts(ScriptLoadingOptions)}.
+     *
+     * @param loaders The options of the loaders, in the order in which they are executed.
+     */
+    public static void loadScripts(List<ScriptLoadingOptions> loaders) {
+        
+        final List<ScriptRun> runs = new ArrayList<>();
+        final List<Runnable> flagRestorers = new ArrayList<>();
+        for(ScriptLoadingOptions options : loaders) {
+            // Preprocessors set these while reading, every loader is executed with its own values
+            NO_BRAND = false;
+            QUIET_LOG = false;
+            INTERN_INGREDIENTS = false;
+            final ScriptRun run = new ScriptRun(options, getSourceFiles(options));
+            run.initializeBracketParser();
+            runs.add(run);
+            final boolean noBrand = NO_BRAND;
+            final boolean quietLog = QUIET_LOG;
+            final boolean internIngredients = INTERN_INGREDIENTS;
+            flagRestorers.add(() -> {
+                NO_BRAND = noBrand;
+                QUIET_LOG = quietLog;
+                INTERN_INGREDIENTS = internIngredients;
+            });
+        }
+        
+        final CompletableFuture<?>[] prepared = new CompletableFuture<?>[runs.size()];
+        for(int i = 0; i < runs.size(); i++) {
+            final ScriptRun run = runs.get(i);
+            prepared[i] = CompletableFuture.runAsync(() -> {
+                PREPARING_RUN.set(run);
+                try {
+                    run.prepare();
+                } catch(Exception ignored) {
+                    // Thrown again when the run is executed
+                } finally {
+                    PREPARING_RUN.remove();
+                }
+            }, Util.getServerExecutor());
+        }
+        CompletableFuture.allOf(prepared).join();
+        
+        for(int i = 0; i < runs.size(); i++) {
+            flagRestorers.get(i).run();
+            runScripts(runs.get(i));
+        }
+    }
+    
+    private static void runScripts(ScriptRun run) {
+        
+        final ScriptLoadingOptions scriptLoadingOptions = run.getScriptLoadingOptions();
+        currentRun = run;
         logInfo("Started loading Scripts for Loader '%s'!", scriptLoadingOptions.getLoaderName());
         
         try {
-            currentRun.reload();
-            currentRun.run();
+            run.reload();
+            run.run();
+            if(QUIET_LOG) {
+                logInfo("Applied %s actions for Loader '%s', use /ct dump actions to list them", run.getLoaderActions()
+                        .getActionList()
+                        .size(), scriptLoadingOptions.getLoaderName());
+            }
         } catch(Exception e) {
             e.printStackTrace();
             CraftTweakerAPI.logger.throwingErr("Error running scripts", e);
@@ -150,6 +307,40 @@ public class CraftTweakerAPI {
         logInfo("Finished loading Scripts!");
     }
     
+    /**
+     * Runs the given sourceFiles on top of the actions of the previous run of the same loader, instead of undoing those
+     * first. Used by {@link IncrementalReload} to only run the scripts that are affected by a change.
+     *
+     * @param sourceFiles          The sourceFiles that are run again.
+     * @param scriptLoadingOptions The options with which to load.
+     * @param rerunActions         Matches the actions the given sourceFiles applied in the previous run.
+     *
+     * @return Whether the sourceFiles were valid and executed without errors.
+     */
+    public static boolean loadScriptsIncrementally(SourceFile[] sourceFiles, ScriptLoadingOptions scriptLoadingOptions, Predicate<IAction> rerunActions) {
+        
+        // Problems are only reported if the scripts can be run on their own, otherwise a full reload follows anyway
+        final DeferredLogger engineLogger = new DeferredLogger(logger);
+        currentRun = new ScriptRun(scriptLoadingOptions, sourceFiles, engineLogger);
+        logInfo("Started loading %s Scripts for Loader '%s' incrementally!", sourceFiles.length, scriptLoadingOptions.getLoaderName());
+        
+        setThreadLogger(engineLogger);
+        try {
+            currentRun.reloadIncrementally(rerunActions);
+            currentRun.run();
+        } catch(Exception e) {
+            engineLogger.throwingErr("Error running scripts", e);
+        } finally {
+            setThreadLogger(null);
+        }
+        
+        if(currentRun.hasExecuted()) {
+            engineLogger.replay();
+        }
+        logInfo("Finished loading Scripts!");
+        return currentRun.hasExecuted();
+    }
+    
     /**
      * Gets the source files that were sent to the client as IRecipes and executes them with the given loadingOptions
      * CrT uses this method during the RecipesUpdatedEvent on the Client to get the serverside scripts.
@@ -162,6 +353,8 @@ public class CraftTweakerAPI {
         Map<ResourceLocation, IRecipe<?>> map = recipeManager.recipes.getOrDefault(CraftTweaker.RECIPE_TYPE_SCRIPTS, new HashMap<>());
         Collection<IRecipe<?>> recipes = map.values();
         CraftTweakerAPI.NO_BRAND = false;
+        CraftTweakerAPI.QUIET_LOG = false;
+        CraftTweakerAPI.INTERN_INGREDIENTS = false;
         
         final Comparator<FileAccessSingle> comparator = FileAccessSingle.createComparator(CraftTweakerRegistry.getPreprocessors());
         final SourceFile[] sourceFiles = recipes.stream()
@@ -204,61 +397,90 @@ public class CraftTweakerAPI {
         //TODO maybe post an event to collect a bunch of loggers? not sure if it will be used much
     }
     
+    /**
+     * Makes the log methods of this class log to the given logger on the calling thread, or to {@link #logger} again if
+     * the given logger is null. Used by syntax checks, so problems that are reported while checking scripts on a
+     * background thread end up in their report.
+     */
+    public static void setThreadLogger(@Nullable ILogger threadLogger) {
+        
+        if(threadLogger == null) {
+            THREAD_LOGGER.remove();
+        } else {
+            THREAD_LOGGER.set(threadLogger);
+        }
+    }
+    
+    private static ILogger getLogger() {
+        
+        final ILogger threadLogger = THREAD_LOGGER.get();
+        return threadLogger == null ? logger : threadLogger;
+    }
+    
     public static void logDump(String message, Object... formats) {
         
-        logger.log(LogLevel.INFO, String.format(message, formats), false);
+        getLogger().log(LogLevel.INFO, String.format(message, formats), false);
     }
     
     public static void logInfo(String message, Object... formats) {
         
-        logger.info(String.format(message, formats));
+        getLogger().info(String.format(message, formats));
     }
     
     public static void logDebug(String message, Object... formats) {
         
-        logger.debug(String.format(message, formats));
+        getLogger().debug(String.format(message, formats));
     }
     
     public static void logWarning(String message, Object... formats) {
         
-        logger.warning(String.format(message, formats));
+        getLogger().warning(String.format(message, formats));
     }
     
     public static void logError(String message, Object... formats) {
         
-        logger.error(String.format(message, formats));
+        getLogger().error(String.format(message, formats));
     }
     
     public static void logThrowing(String message, Throwable e, Object... formats) {
         
-        logger.throwingErr(String.format(message, formats), e);
+        getLogger().throwingErr(String.format(message, formats), e);
     }
     
     public static void log(LogLevel level, String filename, int lineNumber, String message, Object... formats) {
         
-        logger.log(level, String.format("[%s:%d%s]", filename, lineNumber, String.format(message, formats)));
+        getLogger().log(level, String.format("[%s:%d%s]", filename, lineNumber, String.format(message, formats)));
     }
     
     
     public static List<IAction> getActionList() {
         
-        final LoaderActions loaderActions = getCurrentRun().getLoaderActions();
-        return ImmutableList.copyOf(loaderActions.getActionList());
+        final List<IAction> actionList = getCurrentRun().getLoaderActions().getActionList();
+        synchronized(actionList) {
+            return ImmutableList.copyOf(actionList);
+        }
     }
     
     public static List<IAction> getActionListInvalid() {
         
-        final LoaderActions loaderActions = getCurrentRun().getLoaderActions();
-        return ImmutableList.copyOf(loaderActions.getActionListInvalid());
+        final List<IAction> actionList = getCurrentRun().getLoaderActions().getActionListInvalid();
+        synchronized(actionList) {
+            return ImmutableList.copyOf(actionList);
+        }
     }
     
     
     public static ScriptRun getCurrentRun() {
         
-        if(currentRun == null) {
+        final ScriptRun preparingRun = PREPARING_RUN.get();
+        if(preparingRun != null) {
+            return preparingRun;
+        }
+        final ScriptRun run = currentRun;
+        if(run == null) {
             throw new IllegalStateException("Invalid current run!");
         }
-        return currentRun;
+        return run;
     }
     
     public static boolean isServer() {
@@ -0,0 +1,86 @@
+package com.blamejared.crafttweaker.api.actions;
+
+import com.blamejared.crafttweaker.api.brackets.CommandStringDisplayable;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A description of an {@link IAction} that is only turned into text when it is actually logged or dumped.
+ *
+ * It keeps the type of the action, a format and the raw arguments, so creating one does not convert any stack, block or
+ * data into its command string. Loggers render it right away if they log its level, which is before the action is
+ * applied. A description is only skipped if no logger logs its level, like {@code #quietlog} descriptions at debug
+ * level. The file log logs at info level, so normal runs still render every description.
+ */
+public final class ActionDescription {
+    
+    private final IAction action;
+    private final String format;
+    private final Object[] arguments;
+    private String rendered;
+    
+    private ActionDescription(IAction action, String format, Object[] arguments) {
+        
+        this.action = action;
+        this.format = format;
+        this.arguments = arguments;
+    }
+    
+    /**
+     * Creates a description that is rendered through {@link IAction#describe()}.
+     */
+    public static ActionDescription of(IAction action) {
+        
+        return new ActionDescription(action, null, new Object[0]);
+    }
+    
+    /**
+     * Creates a description that is rendered with {@link String#format(String, Object...)}.
+     *
+     * {@link CommandStringDisplayable} arguments are replaced by their command string and {@link Supplier} arguments by
+     * their value when rendering.
+     */
+    public static ActionDescription of(IAction action, String format, Object... arguments) {
+        
+        return new ActionDescription(action, format, arguments);
+    }
+    
+    public Class<? extends IAction> getType() {
+        
+        return action.getClass();
+    }
+    
+    public Object[] getArguments() {
+        
+        return arguments.clone();
+    }
+    
+    public String render() {
+        
+        if(rendered == null) {
+            rendered = format == null ? action.describe() : String.format(format, Arrays.stream(arguments)
+                    .map(ActionDescription::renderArgument)
+                    .toArray());
+        }
+        return rendered;
+    }
+    
+    private static Object renderArgument(Object argument) {
+        
+        if(argument instanceof CommandStringDisplayable) {
+            return ((CommandStringDisplayable) argument).getCommandString();
+        }
+        if(argument instanceof Supplier) {
+            return ((Supplier<?>) argument).get();
+        }
+        return argument;
+    }
+    
+    @Override
+    public String toString() {
+        
+        return render();
+    }
+    
+}
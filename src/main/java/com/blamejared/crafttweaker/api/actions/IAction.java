@@ -38,6 +38,19 @@ public interface IAction {
      */
     String describe();
     
+    /**
+     * Describes this action without rendering the description yet, see {@link ActionDescription}.
+     * <p>
+     * Used instead of {@link #describe()} when action descriptions are deferred through the {@code #quietlog}
+     * preprocessor. Actions that are applied in bulk should override this to avoid building their description eagerly.
+     *
+     * @return the deferred description of this action
+     */
+    default ActionDescription describeDeferred() {
+        
+        return ActionDescription.of(this);
+    }
+    
     /**
      * Used to validate the state of the action. This is called before the action is applied, and allows you to properly handle errors when things are not proper. For example if an input is null, or an ID does not exist.
      * <p>
@@ -92,7 +105,7 @@ public interface IAction {
      *
      * This is mainly used when you have to deal with reloading singleton values, since the old cached value on the client, will be the value set on the server.
      *
-     * An example of where this is used is in {@link com.blamejared.crafttweaker.impl.actions.items.ActionSetFood},
+     * An example of where this is used is in {@link com.blamejared.crafttweaker.impl.actions.items.ActionSetItemProperties},
      * Since the food value of an Item in single player is shared on the client and the server (threads),
      * When it gets the old food value (so it can undo the action on /reload) on the client, it gets the value that was set by the server.
      *
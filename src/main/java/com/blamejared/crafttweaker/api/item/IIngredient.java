@@ -11,6 +11,8 @@ import com.blamejared.crafttweaker.impl.actions.items.ActionModifyAttribute;
 import com.blamejared.crafttweaker.impl.actions.items.ActionSetBurnTime;
 import com.blamejared.crafttweaker.impl.actions.items.tooltips.*;
 import com.blamejared.crafttweaker.impl.data.MapData;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientConversionCache;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionAnyDamage;
 import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionCustom;
 import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionDamaged;
@@ -23,7 +25,6 @@ import com.blamejared.crafttweaker_annotations.annotations.ZenWrapper;
 import net.minecraft.entity.ai.attributes.Attribute;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.inventory.EquipmentSlotType;
-import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraftforge.common.ForgeHooks;
 import org.openzen.zencode.java.ZenCodeType;
@@ -113,12 +114,12 @@ public interface IIngredient extends CommandStringDisplayable {
     
     @ZenCodeType.Method
     default MCIngredientConditioned<IIngredient> onlyDamaged() {
-        return new MCIngredientConditioned<>(this, new ConditionDamaged<>());
+        return IngredientInterner.intern(new MCIngredientConditioned<>(this, new ConditionDamaged<>()));
     }
     
     @ZenCodeType.Method
     default MCIngredientConditioned<IIngredient> anyDamage() {
-        return new MCIngredientConditioned<>(this, new ConditionAnyDamage<>());
+        return IngredientInterner.intern(new MCIngredientConditioned<>(this, new ConditionAnyDamage<>()));
     }
     
     @ZenCodeType.Method
@@ -304,15 +305,7 @@ public interface IIngredient extends CommandStringDisplayable {
             return ((IngredientVanillaPlus) ingredient).getCrTIngredient();
         }
         
-        if(ingredient.hasNoMatchingItems()) {
-            return new MCItemStack(ItemStack.EMPTY);
-        } else {
-            if(ingredient.getMatchingStacks().length == 1) {
-                return new MCItemStack(ingredient.getMatchingStacks()[0]);
-            } else {
-                return new MCIngredientList(Arrays.stream(ingredient.getMatchingStacks()).map(MCItemStack::new).toArray(IItemStack[]::new));
-            }
-        }
+        return IngredientConversionCache.fromIngredient(ingredient);
     }
     
     @ZenCodeType.Caster(implicit = true)
@@ -328,7 +321,7 @@ public interface IIngredient extends CommandStringDisplayable {
     
     @ZenCodeType.Operator(ZenCodeType.OperatorType.OR)
     default MCIngredientList or(IIngredient other) {
-        return new MCIngredientList(new IIngredient[]{this, other});
+        return IngredientInterner.intern(new MCIngredientList(new IIngredient[]{this, other}));
     }
     
 }
@@ -6,11 +6,7 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.data.IData;
 import com.blamejared.crafttweaker.api.data.NBTConverter;
 import com.blamejared.crafttweaker.impl.actions.items.ActionSetBurnTime;
-import com.blamejared.crafttweaker.impl.actions.items.ActionSetFood;
-import com.blamejared.crafttweaker.impl.actions.items.ActionSetImmuneToFire;
-import com.blamejared.crafttweaker.impl.actions.items.ActionSetMaxDamage;
-import com.blamejared.crafttweaker.impl.actions.items.ActionSetMaxStackSize;
-import com.blamejared.crafttweaker.impl.actions.items.ActionSetRarity;
+import com.blamejared.crafttweaker.impl.actions.items.ActionSetItemProperties;
 import com.blamejared.crafttweaker.impl.data.MapData;
 import com.blamejared.crafttweaker.impl.food.MCFood;
 import com.blamejared.crafttweaker.impl.item.MCWeightedItemStack;
@@ -113,8 +109,7 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Setter("maxStackSize")
     default void setMaxStackSize(int newMaxStackSize) {
         
-        CraftTweakerAPI.apply(new ActionSetMaxStackSize(this, newMaxStackSize, this.getInternal()
-                .getItem().maxStackSize));
+        ActionSetItemProperties.setMaxStackSize(this, newMaxStackSize);
     }
     
     /**
@@ -140,7 +135,7 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Setter("rarity")
     default void setRarity(Rarity newRarity) {
         
-        CraftTweakerAPI.apply(new ActionSetRarity(this, newRarity, this.getInternal().getRarity()));
+        ActionSetItemProperties.setRarity(this, newRarity);
     }
     
     
@@ -389,7 +384,7 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Setter("maxDamage")
     default void setMaxDamage(int maxDamage) {
         
-        CraftTweakerAPI.apply(new ActionSetMaxDamage(this, maxDamage, this.getInternal().getMaxDamage()));
+        ActionSetItemProperties.setMaxDamage(this, maxDamage);
     }
     
     /**
@@ -537,7 +532,7 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Setter("food")
     default void setFood(MCFood food) {
         
-        CraftTweakerAPI.apply(new ActionSetFood(this, food, this.getInternal().getItem().getFood()));
+        ActionSetItemProperties.setFood(this, food.getInternal());
     }
     
     @ZenCodeType.Method
@@ -578,7 +573,7 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Setter("immuneToFire")
     default void setImmuneToFire(boolean immuneToFire) {
         
-        CraftTweakerAPI.apply(new ActionSetImmuneToFire(this, immuneToFire, this.getInternal().getItem().burnable));
+        ActionSetItemProperties.setBurnable(this, immuneToFire);
     }
     
     
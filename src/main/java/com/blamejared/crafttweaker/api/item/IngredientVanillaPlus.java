@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.api.item;
 
 import com.blamejared.crafttweaker.impl.item.MCItemStack;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import mcp.MethodsReturnNonnullByDefault;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
@@ -10,6 +11,7 @@ import net.minecraftforge.common.crafting.StackList;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,12 +27,12 @@ public abstract class IngredientVanillaPlus extends Ingredient {
         this.crtIngredient = crtIngredient;
     }
     
+    /**
+     * Creates a vanilla ingredient whose matching stacks are only expanded from the CrT ingredient once vanilla asks for them.
+     */
     protected IngredientVanillaPlus(IIngredient crtIngredient) {
         
-        this(crtIngredient, Stream.of(new StackList(Arrays.stream(crtIngredient.getItems())
-                .map(IItemStack::getInternal)
-                .collect(Collectors
-                        .toList()))));
+        this(crtIngredient, Stream.of(new LazyStackList(crtIngredient)));
     }
     
     public IIngredient getCrTIngredient() {
@@ -56,4 +58,40 @@ public abstract class IngredientVanillaPlus extends Ingredient {
         return stack != null && crtIngredient.matches(new MCItemStack(stack));
     }
     
+    /**
+     * Item list that calls {@link IIngredient#getItems()} on first access and caches the result.
+     * Vanilla only accesses it when it determines the matching stacks, so ingredients that are never displayed,
+     * synced or matched against packed stacks never have to expand tags or ingredient lists.
+     */
+    private static final class LazyStackList implements IItemList {
+        
+        private final IIngredient crtIngredient;
+        private volatile Collection<ItemStack> stacks;
+        
+        private LazyStackList(IIngredient crtIngredient) {
+            
+            this.crtIngredient = crtIngredient;
+        }
+        
+        @Override
+        public Collection<ItemStack> getStacks() {
+            
+            Collection<ItemStack> stacks = this.stacks;
+            if(stacks == null) {
+                stacks = Arrays.stream(crtIngredient.getItems())
+                        .map(IItemStack::getInternal)
+                        .collect(Collectors.toList());
+                this.stacks = stacks;
+            }
+            return stacks;
+        }
+        
+        @Override
+        public JsonObject serialize() {
+            
+            return new StackList(getStacks()).serialize();
+        }
+        
+    }
+    
 }
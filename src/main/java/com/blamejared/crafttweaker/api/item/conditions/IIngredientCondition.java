@@ -5,10 +5,14 @@ import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.google.gson.JsonObject;
+import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
 @ZenRegister
 @ZenCodeType.Name("crafttweaker.api.item.IIngredientCondition")
 @Document("vanilla/api/items/IIngredientCondition")
@@ -22,6 +26,16 @@ public interface IIngredientCondition<T extends IIngredient> {
     
     boolean ignoresDamage();
     
+    /**
+     * Gets a predicate that tests raw stacks like {@link #matches(IItemStack)}, so they don't have to be wrapped.
+     *
+     * @return The predicate, or null if the condition has to be tested on an {@link IItemStack}.
+     */
+    @Nullable
+    default Predicate<ItemStack> asStackPredicate() {
+        return null;
+    }
+    
     IIngredientConditionSerializer getSerializer();
     
     default void write(PacketBuffer buffer) {
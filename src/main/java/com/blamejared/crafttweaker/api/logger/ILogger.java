@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.api.logger;
 
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.impl.logger.GroupLogger;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
@@ -51,6 +52,18 @@ public interface ILogger extends ScriptingEngineLogger {
         log(level, message, true);
     }
     
+    /**
+     * Logs the description of an action, which is only rendered if the given level is actually logged.
+     */
+    default void log(LogLevel level, ActionDescription description) {
+        if(getLogLevel().canLog(level)) {
+            final String message = description.render();
+            if(message != null && !message.isEmpty()) {
+                log(level, message);
+            }
+        }
+    }
+    
     /**
      * Logs an info message.
      *
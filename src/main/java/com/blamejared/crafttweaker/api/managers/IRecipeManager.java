@@ -7,7 +7,6 @@ import com.blamejared.crafttweaker.api.brackets.CommandStringDisplayable;
 import com.blamejared.crafttweaker.api.data.IData;
 import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
-import com.blamejared.crafttweaker.api.zencode.impl.util.PositionUtil;
 import com.blamejared.crafttweaker.impl.actions.recipes.ActionAddRecipe;
 import com.blamejared.crafttweaker.impl.actions.recipes.ActionRemoveAll;
 import com.blamejared.crafttweaker.impl.actions.recipes.ActionRemoveRecipe;
@@ -17,9 +16,9 @@ import com.blamejared.crafttweaker.impl.actions.recipes.ActionRemoveRecipeByOutp
 import com.blamejared.crafttweaker.impl.actions.recipes.ActionRemoveRecipeByRegex;
 import com.blamejared.crafttweaker.impl.data.MapData;
 import com.blamejared.crafttweaker.impl.item.MCItemStackMutable;
-import com.blamejared.crafttweaker.impl.managers.CTCraftingTableManager;
+import com.blamejared.crafttweaker.impl.managers.RecipeMapOverlay;
+import com.blamejared.crafttweaker.impl.managers.RecipeNameRegistry;
 import com.blamejared.crafttweaker.impl.recipes.wrappers.WrapperRecipe;
-import com.blamejared.crafttweaker.impl.util.NameUtils;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -32,9 +31,7 @@ import net.minecraft.util.ResourceLocationException;
 import net.minecraft.util.registry.Registry;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.openzen.zencode.java.ZenCodeType;
-import org.openzen.zencode.shared.CodePosition;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -100,7 +97,7 @@ public interface IRecipeManager extends CommandStringDisplayable {
     
     @ZenCodeType.Method
     default WrapperRecipe getRecipeByName(String name) {
-        IRecipe<?> recipe = getRecipes().get(new ResourceLocation(name));
+        IRecipe<?> recipe = getRecipeView().get(new ResourceLocation(name));
         if(recipe == null) {
             throw new IllegalArgumentException("No recipe found with name: \"" + name + "\" in type: \"" + getRecipeType().toString() + "\"");
         }
@@ -109,13 +106,13 @@ public interface IRecipeManager extends CommandStringDisplayable {
     
     @ZenCodeType.Method
     default List<WrapperRecipe> getRecipesByOutput(IIngredient output) {
-        return getRecipes().values().stream().filter(iRecipe -> output.matches(new MCItemStackMutable(iRecipe.getRecipeOutput()))).map(WrapperRecipe::new).collect(Collectors.toList());
+        return getRecipeView().values().stream().filter(iRecipe -> output.matches(new MCItemStackMutable(iRecipe.getRecipeOutput()))).map(WrapperRecipe::new).collect(Collectors.toList());
     }
     
     @ZenCodeType.Method
     @ZenCodeType.Getter("allRecipes")
     default List<WrapperRecipe> getAllRecipes() {
-        return getRecipes().values().stream().map(WrapperRecipe::new).collect(Collectors.toList());
+        return getRecipeView().values().stream().map(WrapperRecipe::new).collect(Collectors.toList());
     }
     
     /**
@@ -127,7 +124,7 @@ public interface IRecipeManager extends CommandStringDisplayable {
     @ZenCodeType.Getter("recipeMap")
     default Map<ResourceLocation, WrapperRecipe> getRecipeMap() {
     
-        return getRecipes().entrySet().stream()
+        return getRecipeView().entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, entry -> new WrapperRecipe(entry
                         .getValue())));
     }
@@ -236,11 +233,22 @@ public interface IRecipeManager extends CommandStringDisplayable {
     
     /**
      * Gets all the vanilla IRecipes for this recipe type.
+     * The returned map is modifiable, the first call for a recipe type copies the underlying map.
      *
      * @return Map of ResourceLocation to IRecipe for this recipe type.
      */
     default Map<ResourceLocation, IRecipe<?>> getRecipes() {
-        return CTCraftingTableManager.recipeManager.recipes.computeIfAbsent(getRecipeType(), iRecipeType -> new HashMap<>());
+        return RecipeMapOverlay.get().mutable(getRecipeType());
+    }
+    
+    /**
+     * Gets all the vanilla IRecipes for this recipe type without copying them.
+     * The returned map must not be modified, use {@link #getRecipes()} for that.
+     *
+     * @return Map of ResourceLocation to IRecipe for this recipe type.
+     */
+    default Map<ResourceLocation, IRecipe<?>> getRecipeView() {
+        return RecipeMapOverlay.get().view(getRecipeType());
     }
     
     /**
@@ -253,24 +261,14 @@ public interface IRecipeManager extends CommandStringDisplayable {
     }
     
     /**
-     * Fixes and logs some common errors that people run into with recipe names
+     * Fixes some common errors that people run into with recipe names, they are logged once the script run is done
      *
      * @param name name to check
      *
      * @return fixed name
      */
     default String fixRecipeName(String name) {
-        CodePosition position = PositionUtil.getZCScriptPositionFromStackTrace();
-        return NameUtils.fixing(
-                name,
-                (fixed, mistakes) -> CraftTweakerAPI.logWarning(
-                        "%sInvalid recipe name '%s', mistakes:\n%s\nNew recipe name: %s",
-                        position == CodePosition.UNKNOWN ? "" : position + ": ",
-                        name,
-                        String.join("\n", mistakes),
-                        fixed
-                )
-        );
+        return RecipeNameRegistry.get().fix(name);
     }
     
     /**
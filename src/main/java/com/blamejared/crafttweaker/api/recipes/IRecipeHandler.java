@@ -12,7 +12,6 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
 /**
@@ -146,7 +145,9 @@ public interface IRecipeHandler<T extends IRecipe<?>> {
      * Attempts replacing the ingredient given as an argument according to the specified {@link IReplacementRule}s and
      * type.
      *
-     * <p>The rules are applied one after the other in the same order as they are given in the {@code rules} list.</p>
+     * <p>The rules are applied one after the other in the same order as they are given in the {@code rules} list.
+     * Ingredients that match none of the {@linkplain IReplacementRule#getTargetedItems() targeted items} of the rules
+     * are skipped without applying any rule.</p>
      *
      * <p>The result of each rule application is considered as the new ingredient, which will be passed to the upcoming
      * rule. Effectively, this creates a chain of calls in the form of {@code ...(rule3(rule2(rule1(ingredient))))...}
@@ -171,13 +172,16 @@ public interface IRecipeHandler<T extends IRecipe<?>> {
      * {@code ingredient} (i.e. {@code ingredient != result.get()}).
      */
     static <S extends IRecipe<?>, U> Optional<U> attemptReplacing(final U ingredient, final Class<U> type, final S recipe, final List<IReplacementRule> rules) {
-        final BinaryOperator<Optional<U>> combiner = (oldOpt, newOpt) -> newOpt.isPresent()? newOpt : oldOpt;
-        return rules.stream()
-                .reduce(
-                        Optional.empty(),
-                        (optional, rule) -> combiner.apply(optional, rule.getReplacement(optional.orElse(ingredient), type, recipe)),
-                        combiner
-                );
+        if (!ReplacementHandlerHelper.mayBeReplaced(ingredient, rules)) return Optional.empty();
+        
+        Optional<U> result = Optional.empty();
+        for (int i = 0, size = rules.size(); i < size; ++i) {
+            final Optional<U> replaced = rules.get(i).getReplacement(result.orElse(ingredient), type, recipe);
+            if (replaced.isPresent()) {
+                result = replaced;
+            }
+        }
+        return result;
     }
     
     /**
@@ -1,9 +1,12 @@
 package com.blamejared.crafttweaker.api.recipes;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.crafting.IRecipe;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 /**
@@ -28,6 +31,11 @@ public interface IReplacementRule {
             return Optional.empty();
         }
     
+        @Override
+        public Optional<Set<Item>> getTargetedItems() {
+            return Optional.of(Collections.emptySet());
+        }
+    
         @Override
         public String describe() {
             return "NO-OP";
@@ -108,6 +116,25 @@ public interface IReplacementRule {
      */
     <T, U extends IRecipe<?>> Optional<T> getReplacement(final T ingredient, final Class<T> type, final U recipe);
     
+    /**
+     * Gets the items that this rule may replace, if known.
+     *
+     * <p>Replacement is skipped for ingredients that match none of the targeted items of any rule, without calling
+     * {@link #getReplacement(Object, Class, IRecipe)}. Since almost all recipes are left untouched by a replacement
+     * pass, this avoids most of the work a pass would otherwise do.</p>
+     *
+     * @implSpec The returned set must contain every item that, when matched by an ingredient, may lead to the
+     * ingredient being replaced. If that can't be determined, {@link Optional#empty()} must be returned.
+     *
+     * @implNote By default, this method returns {@link Optional#empty()}, meaning the rule may replace any ingredient.
+     *
+     * @return An {@link Optional} containing the set of items that this rule may replace, or {@link Optional#empty()}
+     * if the rule may replace any ingredient.
+     */
+    default Optional<Set<Item>> getTargetedItems() {
+        return Optional.empty();
+    }
+    
     /**
      * Describes in a short and simple sentence the behavior of this rule.
      *
@@ -1,19 +1,25 @@
 package com.blamejared.crafttweaker.api.recipes;
 
-import com.mojang.datafixers.util.Pair;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectRBTreeMap;
+import com.blamejared.crafttweaker.api.item.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Util;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
 /**
  * Set of helper functions that can replace ingredients according to the given {@link IReplacementRule}s.
@@ -22,41 +28,93 @@ import java.util.stream.IntStream;
  * @see IRecipeHandler#attemptReplacing(Object, Class, IRecipe, List)
  */
 public final class ReplacementHandlerHelper {
-    private static final class ReplacementMap<T> {
-        private interface ReplacementConsumer<T> {
-            void accept(int index, T ingredient);
-        }
-        
-        private final Int2ObjectMap<T> delegate;
+    private static final class TargetedRules extends AbstractList<IReplacementRule> implements RandomAccess {
+        private final List<IReplacementRule> rules;
+        private final Set<Item> items; // null if the rules may replace anything
         
-        ReplacementMap() {
-            this.delegate = new Int2ObjectRBTreeMap<>();
-            this.delegate.defaultReturnValue(null);
+        TargetedRules(final List<IReplacementRule> rules) {
+            this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+            this.items = collect(this.rules);
         }
         
-        void fill(final ReplacementConsumer<T> consumer) {
-            this.delegate.int2ObjectEntrySet().forEach(it -> consumer.accept(it.getIntKey(), it.getValue()));
+        @Override
+        public IReplacementRule get(final int index) {
+            return this.rules.get(index);
         }
         
-        void put(final int index, final T ingredient) {
-            this.delegate.put(index, ingredient);
+        @Override
+        public int size() {
+            return this.rules.size();
         }
+    }
+    
+    private ReplacementHandlerHelper() {}
+    
+    /**
+     * Creates an unmodifiable copy of the given rules that also holds the items they target, so they are only collected
+     * once for a whole replacement pass instead of once per ingredient.
+     *
+     * <p>The targeted items may depend on tags, so the copy should only be used for a single pass.</p>
+     *
+     * @param rules The list of {@link IReplacementRule}s of the replacement pass.
+     * @return The copy, which can be passed anywhere a list of rules is expected.
+     *
+     * @see #mayBeReplaced(Object, List)
+     */
+    public static List<IReplacementRule> withTargetedItems(final List<IReplacementRule> rules) {
+        return rules instanceof TargetedRules? rules : new TargetedRules(rules);
+    }
+    
+    /**
+     * Checks whether any of the given rules may replace the given ingredient, according to the items they target.
+     *
+     * <p>Only {@link Ingredient}s and {@link IIngredient}s can be checked, any other type of ingredient is assumed to be
+     * replaceable. The targeted items are collected on every call, unless the rules were created through
+     * {@link #withTargetedItems(List)}.</p>
+     *
+     * @param ingredient The ingredient that may undergo replacement.
+     * @param rules The list of {@link IReplacementRule}s that would be applied to the ingredient.
+     * @return {@code false} if none of the rules can replace the ingredient; {@code true} if one of them may.
+     *
+     * @see IReplacementRule#getTargetedItems()
+     */
+    public static boolean mayBeReplaced(final Object ingredient, final List<IReplacementRule> rules) {
+        final Set<Item> targets = getTargetedItems(rules);
+        if (targets == null) return true;
+        if (targets.isEmpty()) return false;
         
-        @SuppressWarnings("OptionalGetWithoutIsPresent")
-        void put(final Pair<Integer, Optional<T>> pair) {
-            this.put(pair.getFirst(), pair.getSecond().get());
+        if (ingredient instanceof Ingredient) {
+            for (final ItemStack stack : ((Ingredient) ingredient).getMatchingStacks()) {
+                if (targets.contains(stack.getItem())) return true;
+            }
+            return false;
         }
-        
-        void merge(final ReplacementMap<T> other) {
-            this.delegate.putAll(other.delegate);
+        if (ingredient instanceof IItemStack) {
+            return targets.contains(((IItemStack) ingredient).getInternal().getItem());
         }
-        
-        boolean isEmpty() {
-            return this.delegate.isEmpty();
+        if (ingredient instanceof IIngredient) {
+            // Vanilla caches the matching stacks, unlike getItems which creates new stacks every time
+            for (final ItemStack stack : ((IIngredient) ingredient).asVanillaIngredient().getMatchingStacks()) {
+                if (targets.contains(stack.getItem())) return true;
+            }
+            return false;
         }
+        return true;
     }
     
-    private ReplacementHandlerHelper() {}
+    private static Set<Item> getTargetedItems(final List<IReplacementRule> rules) {
+        return rules instanceof TargetedRules? ((TargetedRules) rules).items : collect(rules);
+    }
+    
+    private static Set<Item> collect(final List<IReplacementRule> rules) {
+        final Set<Item> items = new ReferenceOpenHashSet<>();
+        for (final IReplacementRule rule : rules) {
+            final Optional<Set<Item>> targeted = rule.getTargetedItems();
+            if (!targeted.isPresent()) return null;
+            items.addAll(targeted.get());
+        }
+        return items;
+    }
     
     /**
      * Replaces the given {@link NonNullList} of ingredients of type {@code ingredientClass} according to the given set
@@ -122,18 +180,16 @@ public final class ReplacementHandlerHelper {
     public static <T extends IRecipe<?>, U> Optional<Function<ResourceLocation, T>> replaceIngredientList(final List<U> originalIngredients, final Class<U> ingredientClass,
                                                                                                           final T recipe, final List<IReplacementRule> rules,
                                                                                                           final Function<List<U>, Function<ResourceLocation, T>> factory) {
-        final ReplacementMap<U> replacements = IntStream.range(0, originalIngredients.size())
-                .mapToObj(i -> Pair.of(i, IRecipeHandler.attemptReplacing(originalIngredients.get(i), ingredientClass, recipe, rules)))
-                .filter(it -> it.getSecond().isPresent())
-                .collect(ReplacementMap::new, ReplacementMap::put, ReplacementMap::merge);
-    
-        if (replacements.isEmpty()) return Optional.empty();
-    
-        final List<U> newIngredients = new ArrayList<>(originalIngredients);
-    
-        replacements.fill(newIngredients::set);
-    
-        return Optional.of(factory.apply(newIngredients));
+        List<U> newIngredients = null;
+        for (int i = 0, size = originalIngredients.size(); i < size; ++i) {
+            final Optional<U> replaced = IRecipeHandler.attemptReplacing(originalIngredients.get(i), ingredientClass, recipe, rules);
+            if (!replaced.isPresent()) continue;
+            
+            if (newIngredients == null) newIngredients = new ArrayList<>(originalIngredients);
+            newIngredients.set(i, replaced.get());
+        }
+        
+        return newIngredients == null? Optional.empty() : Optional.of(factory.apply(newIngredients));
     }
     
     /**
@@ -162,17 +218,15 @@ public final class ReplacementHandlerHelper {
     public static <T extends IRecipe<?>, U> Optional<Function<ResourceLocation, T>> replaceIngredientArray(final U[] originalIngredients, final Class<U> ingredientClass,
                                                                                                            final T recipe, final List<IReplacementRule> rules,
                                                                                                            final Function<U[], Function<ResourceLocation, T>> factory) {
-        final ReplacementMap<U> replacements = IntStream.range(0, originalIngredients.length)
-                .mapToObj(i -> Pair.of(i, IRecipeHandler.attemptReplacing(originalIngredients[i], ingredientClass, recipe, rules)))
-                .filter(it -> it.getSecond().isPresent())
-                .collect(ReplacementMap::new, ReplacementMap::put, ReplacementMap::merge);
-        
-        if (replacements.isEmpty()) return Optional.empty();
-        
-        final U[] newIngredients = Arrays.copyOf(originalIngredients, originalIngredients.length);
-        
-        replacements.fill((i, ing) -> newIngredients[i] = ing);
+        U[] newIngredients = null;
+        for (int i = 0; i < originalIngredients.length; ++i) {
+            final Optional<U> replaced = IRecipeHandler.attemptReplacing(originalIngredients[i], ingredientClass, recipe, rules);
+            if (!replaced.isPresent()) continue;
+            
+            if (newIngredients == null) newIngredients = Arrays.copyOf(originalIngredients, originalIngredients.length);
+            newIngredients[i] = replaced.get();
+        }
         
-        return Optional.of(factory.apply(newIngredients));
+        return newIngredients == null? Optional.empty() : Optional.of(factory.apply(newIngredients));
     }
 }
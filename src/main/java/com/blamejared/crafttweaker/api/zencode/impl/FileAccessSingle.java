@@ -4,6 +4,7 @@ import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
 import com.blamejared.crafttweaker.api.zencode.IPreprocessor;
 import com.blamejared.crafttweaker.api.zencode.PreprocessorMatch;
+import com.blamejared.crafttweaker.impl.profiler.ScriptProfiler;
 import org.openzen.zencode.shared.SourceFile;
 
 import java.io.BufferedReader;
@@ -30,6 +31,7 @@ public class FileAccessSingle {
      * <p>The file should be accessible, if an IOException occurs it will be logged and the content will remain empty</p>
      */
     public FileAccessSingle(File file, ScriptLoadingOptions scriptLoadingOptions, Collection<IPreprocessor> preprocessors) {
+        final long start = ScriptProfiler.begin();
         this.scriptLoadingOptions = scriptLoadingOptions;
         this.registeredPreprocessors = new HashMap<>();
         for (IPreprocessor preprocessor : preprocessors) {
@@ -44,6 +46,7 @@ public class FileAccessSingle {
         }
         fillInMissingPreprocessors();
         applyPreprocessors();
+        ScriptProfiler.recordScript(this.fileName, ScriptProfiler.Phase.PREPROCESS, start);
     }
 
     /**
@@ -55,6 +58,7 @@ public class FileAccessSingle {
      * @throws IllegalArgumentException baseDirectory is no parent of file
      */
     public FileAccessSingle(File baseDirectory, File file, ScriptLoadingOptions scriptLoadingOptions, Collection<IPreprocessor> preprocessors) {
+        final long start = ScriptProfiler.begin();
         this.scriptLoadingOptions = scriptLoadingOptions;
         if(!file.getAbsolutePath().startsWith(baseDirectory.getAbsolutePath())) {
             throw new IllegalArgumentException("Base directory is not parent of script file!");
@@ -73,6 +77,7 @@ public class FileAccessSingle {
         }
         fillInMissingPreprocessors();
         applyPreprocessors();
+        ScriptProfiler.recordScript(this.fileName, ScriptProfiler.Phase.PREPROCESS, start);
     }
     
     
@@ -81,6 +86,7 @@ public class FileAccessSingle {
      *
      */
     public FileAccessSingle(String fileName, Reader reader, ScriptLoadingOptions scriptLoadingOptions, Collection<IPreprocessor> preprocessors) {
+        final long start = ScriptProfiler.begin();
         this.scriptLoadingOptions = scriptLoadingOptions;
 
         this.registeredPreprocessors = new HashMap<>();
@@ -93,6 +99,7 @@ public class FileAccessSingle {
         readFile(reader);
         fillInMissingPreprocessors();
         applyPreprocessors();
+        ScriptProfiler.recordScript(this.fileName, ScriptProfiler.Phase.PREPROCESS, start);
     }
     
     public static Comparator<FileAccessSingle> createComparator(Collection<IPreprocessor> preprocessors) {
@@ -0,0 +1,74 @@
+package com.blamejared.crafttweaker.api.zencode.impl;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Reads a list of lines as if they were one text, with every line followed by a separator.
+ * Unlike joining the lines first, this never copies the whole file into a single String.
+ */
+public class LineListReader extends Reader {
+    
+    private final List<String> lines;
+    private final String separator;
+    private int nextLine;
+    private String segment;
+    private int position;
+    private boolean separatorPending;
+    private boolean closed;
+    
+    public LineListReader(List<String> lines, String separator) {
+        // An empty file is still read as a single empty line
+        this.lines = lines.isEmpty() ? Collections.singletonList("") : lines;
+        this.separator = separator;
+    }
+    
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if(closed) {
+            throw new IOException("Stream closed");
+        }
+        if(off < 0 || len < 0 || off + len > cbuf.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if(len == 0) {
+            return 0;
+        }
+        
+        int written = 0;
+        while(written < len) {
+            if(segment == null) {
+                if(nextLine >= lines.size()) {
+                    break;
+                }
+                segment = lines.get(nextLine++);
+                position = 0;
+                separatorPending = true;
+            }
+            
+            final int available = segment.length() - position;
+            if(available == 0) {
+                if(separatorPending) {
+                    segment = separator;
+                    position = 0;
+                    separatorPending = false;
+                } else {
+                    segment = null;
+                }
+                continue;
+            }
+            
+            final int count = Math.min(available, len - written);
+            segment.getChars(position, position + count, cbuf, off + written);
+            position += count;
+            written += count;
+        }
+        
+        return written == 0 ? -1 : written;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -20,9 +20,13 @@ public class SourceFilePreprocessed implements SourceFile {
         return fileName;
     }
     
+    public List<String> getFileContent() {
+        return fileContent;
+    }
+    
     @Override
     public Reader open() {
-        return new StringReader(String.join(System.lineSeparator(), fileContent) + System.lineSeparator());
+        return new LineListReader(fileContent, System.lineSeparator());
     }
     
     @Override
@@ -3,23 +3,34 @@ package com.blamejared.crafttweaker.api.zencode.impl.loaders;
 import com.blamejared.crafttweaker.*;
 import com.blamejared.crafttweaker.api.*;
 import com.blamejared.crafttweaker.api.actions.*;
+import com.blamejared.crafttweaker.api.logger.*;
 import com.google.common.collect.*;
 import net.minecraftforge.fml.common.thread.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
+/**
+ * The actions applied by the scripts of a single loader.
+ *
+ * Loaders may be prepared on different threads, so the lists are synchronized; iterating them requires holding their
+ * lock. Actions of a loader are still only applied by one thread at a time, see
+ * {@link CraftTweakerAPI#loadScripts(List)}.
+ */
 public class LoaderActions {
     
-    private static final Map<String, LoaderActions> allActionsByLoaderName = new HashMap<>();
+    private static final Map<String, LoaderActions> allActionsByLoaderName = new ConcurrentHashMap<>();
     
     private final String loaderName;
-    private final List<IAction> actionListServer = new ArrayList<>();
-    private final List<IAction> actionListClient = new ArrayList<>();
+    private final List<IAction> actionListServer = Collections.synchronizedList(new ArrayList<>());
+    private final List<IAction> actionListClient = Collections.synchronizedList(new ArrayList<>());
     
-    private final List<IAction> actionListInvalidClient = new ArrayList<>();
-    private final List<IAction> actionListInvalidServer = new ArrayList<>();
-    private int runCountClient = 0;
-    private int runCountServer = 0;
+    private final List<IAction> actionListInvalidClient = Collections.synchronizedList(new ArrayList<>());
+    private final List<IAction> actionListInvalidServer = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger runCountClient = new AtomicInteger();
+    private final AtomicInteger runCountServer = new AtomicInteger();
     
     private LoaderActions(String loaderName) {
         this.loaderName = loaderName;
@@ -59,31 +70,40 @@ public class LoaderActions {
     
     public void reload() {
         final List<IAction> actionList = getActionList();
-        actionList.stream()
+        final List<IAction> actions;
+        synchronized(actionList) {
+            actions = new ArrayList<>(actionList);
+        }
+        actions.stream()
                 .filter(iAction -> iAction instanceof IUndoableAction)
                 .filter(iAction -> iAction.shouldApplyOn(EffectiveSide.get()))
                 .map(iAction -> (IUndoableAction) iAction)
                 .forEach(iUndoableAction -> {
-                    CraftTweakerAPI.logInfo(iUndoableAction.describeUndo());
+                    final Supplier<String> describeUndo = iUndoableAction::describeUndo;
+                    CraftTweakerAPI.logger.log(CraftTweakerAPI.QUIET_LOG ? LogLevel.DEBUG : LogLevel.INFO, ActionDescription.of(iUndoableAction, "%s", describeUndo));
                     iUndoableAction.undo();
                 });
         actionList.clear();
         getActionListInvalid().clear();
     }
     
+    /**
+     * Forgets the matching actions without undoing them, used when only some of the scripts are run again.
+     */
+    public void removeActions(Predicate<IAction> actions) {
+        getActionList().removeIf(actions);
+        getActionListInvalid().removeIf(actions);
+    }
+    
     public boolean isFirstRun() {
         return getRunCount() == 0;
     }
     
     public int getRunCount() {
-        return isServer() ? runCountClient : runCountServer;
+        return (isServer() ? runCountClient : runCountServer).get();
     }
     
     public void incrementRunCount() {
-        if(isServer()) {
-            runCountClient++;
-        } else {
-            runCountServer++;
-        }
+        (isServer() ? runCountClient : runCountServer).incrementAndGet();
     }
 }
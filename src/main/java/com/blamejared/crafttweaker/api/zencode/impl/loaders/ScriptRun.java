@@ -4,11 +4,14 @@ import com.blamejared.crafttweaker.CraftTweaker;
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
 import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.actions.IAction;
+import com.blamejared.crafttweaker.api.logger.ILogger;
 import com.blamejared.crafttweaker.api.zencode.brackets.CTRegisterBEPEvent;
 import com.blamejared.crafttweaker.api.zencode.brackets.IgnorePrefixCasingBracketParser;
 import com.blamejared.crafttweaker.api.zencode.brackets.ValidatedEscapableBracketParser;
 import com.blamejared.crafttweaker.api.zencode.impl.native_types.CrTJavaNativeConverterBuilder;
 import com.blamejared.crafttweaker.impl.logger.GroupLogger;
+import com.blamejared.crafttweaker.impl.profiler.ScriptProfiler;
 import net.minecraftforge.common.MinecraftForge;
 import org.openzen.zencode.java.ScriptingEngine;
 import org.openzen.zencode.java.module.JavaNativeModule;
@@ -31,27 +34,84 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class ScriptRun {
     
+    private static final List<Consumer<ScriptRun>> RUN_FINISHED_LISTENERS = new CopyOnWriteArrayList<>();
+    
     private final ScriptLoadingOptions scriptLoadingOptions;
     private final SourceFile[] sourceFiles;
     private final ScriptingEngine scriptingEngine;
+    private final ILogger engineLogger;
     private IgnorePrefixCasingBracketParser bep;
+    private volatile boolean running;
+    private volatile boolean reloading;
+    private boolean executed;
+    private boolean prepared;
+    private Exception prepareFailure;
+    private SemanticModule scripts;
     
     public ScriptRun(ScriptLoadingOptions scriptLoadingOptions, SourceFile[] sourceFiles) {
+        this(scriptLoadingOptions, sourceFiles, CraftTweakerAPI.logger);
+    }
+    
+    /**
+     * Creates a run whose scripting engine reports parse and compile problems to the given logger.
+     */
+    public ScriptRun(ScriptLoadingOptions scriptLoadingOptions, SourceFile[] sourceFiles, ILogger engineLogger) {
         this.scriptLoadingOptions = scriptLoadingOptions;
         this.sourceFiles = sourceFiles;
+        this.engineLogger = engineLogger;
         
         //Init Engine
-        this.scriptingEngine = new ScriptingEngine(CraftTweakerAPI.logger);
+        this.scriptingEngine = new ScriptingEngine(engineLogger);
         this.scriptingEngine.debug = CraftTweakerAPI.DEBUG_MODE;
     }
     
+    /**
+     * Adds a listener that is called after the scripts of every run that applies its changes were executed, even if
+     * running them failed. Used by systems that stage their changes during a run and apply them in one sweep.
+     *
+     * Syntax checks may run off-thread, so listeners are not called for runs that don't execute their scripts.
+     */
+    public static void addRunFinishedListener(Consumer<ScriptRun> listener) {
+        RUN_FINISHED_LISTENERS.add(listener);
+    }
+    
+    public ScriptLoadingOptions getScriptLoadingOptions() {
+        return scriptLoadingOptions;
+    }
+    
     public LoaderActions getLoaderActions() {
         return LoaderActions.getActionForLoader(scriptLoadingOptions.getLoaderName());
     }
     
+    /**
+     * Whether the scripts of this run are currently being executed, as opposed to code of this run that is called
+     * later on, like event handlers.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Whether the actions of the previous run of this loader are currently being undone, right before the scripts of
+     * this run are executed.
+     */
+    public boolean isReloading() {
+        return reloading;
+    }
+    
+    /**
+     * Whether the scripts of this run were valid and executed without throwing.
+     */
+    public boolean hasExecuted() {
+        return executed;
+    }
+    
     public boolean isFirstRun() {
         return getLoaderActions().isFirstRun();
     }
@@ -62,9 +122,32 @@ public class ScriptRun {
     
     public void reload() {
         if(scriptLoadingOptions.isExecute()) {
-            getLoaderActions().reload();
+            reloading = true;
+            try {
+                getLoaderActions().reload();
+            } finally {
+                reloading = false;
+            }
         }
         
+        clearPreviousMessages();
+    }
+    
+    /**
+     * Prepares a run that only runs some of the scripts again, on top of the actions of the previous run.
+     *
+     * @param rerunActions Matches the actions applied by the previous run of the scripts that are run again, they are dropped
+     *                     without being undone.
+     */
+    public void reloadIncrementally(Predicate<IAction> rerunActions) {
+        if(scriptLoadingOptions.isExecute()) {
+            getLoaderActions().removeActions(rerunActions);
+        }
+        
+        clearPreviousMessages();
+    }
+    
+    private void clearPreviousMessages() {
         //Unless another mod messes up, that should always be a GroupLogger
         if(CraftTweakerAPI.logger instanceof GroupLogger) {
             ((GroupLogger) CraftTweakerAPI.logger).getPreviousMessages().clear();
@@ -89,24 +172,85 @@ public class ScriptRun {
             CraftTweakerAPI.logDebug("This is a first run. All IActions will be applied.");
         }
         
-        initializeBep();
-        registerModules();
-        readAndExecuteScripts();
+        running = true;
+        try {
+            prepare();
+            executeScripts();
+        } finally {
+            running = false;
+            if(scriptLoadingOptions.isExecute()) {
+                notifyRunFinished();
+            }
+        }
+        
+    }
+    
+    private void notifyRunFinished() {
+        for(Consumer<ScriptRun> listener : RUN_FINISHED_LISTENERS) {
+            // A broken listener must not keep the others from applying their staged changes
+            try {
+                listener.accept(this);
+            } catch(Exception e) {
+                CraftTweakerAPI.logThrowing("Error finishing the script run of loader '%s'", e, scriptLoadingOptions.getLoaderName());
+            }
+        }
+    }
+    
+    /**
+     * Parses, validates and compiles the scripts without running them, {@link #run()} does this if it wasn't done yet.
+     *
+     * Every run has its own scripting engine and bracket parser. {@link CraftTweakerAPI#loadScripts(java.util.List)}
+     * prepares runs of different loaders in parallel, see there for the state they still share. If preparing failed on
+     * another thread, the failure is thrown again by the next call.
+     *
+     * @throws Exception Any exception that occurs while preparing the scripts.
+     */
+    public synchronized void prepare() throws Exception {
+        if(prepared) {
+            if(prepareFailure != null) {
+                throw prepareFailure;
+            }
+            return;
+        }
         
+        prepared = true;
+        try {
+            if(bep == null) {
+                initializeBracketParser();
+            }
+            registerModules();
+            scripts = readScripts();
+        } catch(Exception e) {
+            prepareFailure = e;
+            throw e;
+        }
     }
     
-    private void initializeBep() {
+    /**
+     * Creates the bracket parser of this run and posts the {@link CTRegisterBEPEvent} for it on the calling thread.
+     *
+     * {@link #prepare()} does this if it wasn't done yet. Runs that are prepared on another thread call this first, so
+     * the event is posted on the thread that owns the game state.
+     */
+    public synchronized void initializeBracketParser() {
         this.bep = new IgnorePrefixCasingBracketParser();
         MinecraftForge.EVENT_BUS.post(new CTRegisterBEPEvent(bep));
     }
     
-    private void readAndExecuteScripts() throws ParseException {
+    private String getProfilerName() {
+        // ZenCode parses, compiles and runs all files of a loader as a single module, so these phases are profiled per loader
+        return "loader '" + scriptLoadingOptions.getLoaderName() + "'";
+    }
+    
+    private SemanticModule readScripts() throws ParseException {
+        long start = ScriptProfiler.begin();
         SemanticModule scripts = scriptingEngine.createScriptedModule("scripts", sourceFiles, bep, FunctionParameter.NONE);
+        ScriptProfiler.recordScript(getProfilerName(), ScriptProfiler.Phase.PARSE, start);
         
         if(!scripts.isValid()) {
-            CraftTweakerAPI.logger.error("Scripts are invalid!");
+            engineLogger.error("Scripts are invalid!");
             CraftTweaker.LOG.info("Scripts are invalid!");
-            return;
+            return null;
         }
         
         //  toggle this to format scripts. Set by /ct format
@@ -114,15 +258,30 @@ public class ScriptRun {
             writeFormattedFiles(scripts);
         }
         
+        if(scriptLoadingOptions.isExecute()) {
+            start = ScriptProfiler.begin();
+            scriptingEngine.registerCompiled(scripts);
+            ScriptProfiler.recordScript(getProfilerName(), ScriptProfiler.Phase.COMPILE, start);
+        }
+        return scripts;
+    }
+    
+    private void executeScripts() {
+        if(scripts == null) {
+            return;
+        }
+        
         if(scriptLoadingOptions.isExecute()) {
             //Now that we execute, we increment the runCount and therefore it's no longer a first run
             final LoaderActions loaderActions = getLoaderActions();
             CraftTweakerAPI.logDebug("This is loader '%s' run #%s", scriptLoadingOptions.getLoaderName(), loaderActions
                     .getRunCount() + 1);
             
-            scriptingEngine.registerCompiled(scripts);
+            final long start = ScriptProfiler.begin();
             scriptingEngine.run(Collections.emptyMap(), CraftTweaker.class.getClassLoader());
+            ScriptProfiler.recordScript(getProfilerName(), ScriptProfiler.Phase.RUN, start);
             loaderActions.incrementRunCount();
+            executed = true;
             
         } else if(CraftTweakerAPI.DEBUG_MODE) {
             scriptingEngine.createRunUnit().dump(new File("classes"));
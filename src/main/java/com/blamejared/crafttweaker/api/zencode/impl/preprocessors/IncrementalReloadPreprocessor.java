@@ -0,0 +1,33 @@
+package com.blamejared.crafttweaker.api.zencode.impl.preprocessors;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.annotations.Preprocessor;
+import com.blamejared.crafttweaker.api.zencode.IPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.PreprocessorMatch;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+@Preprocessor
+public class IncrementalReloadPreprocessor implements IPreprocessor {
+    
+    @Override
+    public String getName() {
+        return "incrementalreload";
+    }
+    
+    @Nullable
+    @Override
+    public String getDefaultValue() {
+        return null;
+    }
+    
+    @Override
+    public boolean apply(@Nonnull FileAccessSingle file, ScriptLoadingOptions scriptLoadingOptions, @Nonnull List<PreprocessorMatch> preprocessorMatches) {
+        CraftTweakerAPI.INCREMENTAL_RELOAD = true;
+        return true;
+    }
+}
@@ -9,7 +9,12 @@ import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * {@code #replace toReplace replaceWith}
@@ -30,13 +35,41 @@ public class ReplacePreprocessor implements IPreprocessor {
     
     @Override
     public boolean apply(@Nonnull FileAccessSingle file, ScriptLoadingOptions scriptLoadingOptions, @Nonnull List<PreprocessorMatch> preprocessorMatches) {
+        final List<Matcher> matchers = new ArrayList<>(preprocessorMatches.size());
+        final List<String> replacements = new ArrayList<>(preprocessorMatches.size());
         for(PreprocessorMatch preprocessorMatch : preprocessorMatches) {
             final String[] split = preprocessorMatch.getContent().split(" ", 2);
             if(split.length != 2) {
                 CraftTweakerAPI.logWarning("[%s:%d] Invalid Preprocessor line: #replace %s", file.getFileName(), preprocessorMatch.getLine(), preprocessorMatch.getContent());
                 continue;
             }
-            file.getFileContents().replaceAll(s -> s.replaceAll(split[0], split[1]));
+            try {
+                // Compile once and reuse the matcher for every line
+                matchers.add(Pattern.compile(split[0]).matcher(""));
+                replacements.add(split[1]);
+            } catch(PatternSyntaxException e) {
+                CraftTweakerAPI.logWarning("[%s:%d] Invalid regex in Preprocessor line: #replace %s, %s", file.getFileName(), preprocessorMatch.getLine(), preprocessorMatch.getContent(), e.getDescription());
+            }
+        }
+        
+        if(matchers.isEmpty()) {
+            return true;
+        }
+        
+        // Replacements are applied in declaration order, so a later #replace sees the result of the earlier ones
+        final ListIterator<String> lines = file.getFileContents().listIterator();
+        while(lines.hasNext()) {
+            final String line = lines.next();
+            String replaced = line;
+            for(int i = 0; i < matchers.size(); i++) {
+                final Matcher matcher = matchers.get(i).reset(replaced);
+                if(matcher.find()) {
+                    replaced = matcher.replaceAll(replacements.get(i));
+                }
+            }
+            if(replaced != line) {
+                lines.set(replaced);
+            }
         }
         
         return true;
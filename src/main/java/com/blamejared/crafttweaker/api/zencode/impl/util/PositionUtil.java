@@ -4,6 +4,8 @@ import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.VirtualSourceFile;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public class PositionUtil {
     
@@ -32,4 +34,22 @@ public class PositionUtil {
         final VirtualSourceFile virtualSourceFile = new VirtualSourceFile(fileName);
         return new CodePosition(virtualSourceFile, lineNumber, 0, lineNumber, 0);
     }
+    
+    /**
+     * Reads the names of all zs files on the current Thread's stacktrace.
+     * Unlike {@link #getZCScriptPositionFromStackTrace()}, this includes the files of the functions that lead to the
+     * innermost script position, like a script calling a function that is declared in another script.
+     *
+     * @return The file names, innermost first, or an empty set if no script is on the stacktrace
+     */
+    public static Set<String> getZCScriptFileNamesFromStackTrace() {
+        final Set<String> fileNames = new LinkedHashSet<>();
+        for(StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            final String fileName = element.getFileName();
+            if(fileName != null && fileName.endsWith(".zs")) {
+                fileNames.add(fileName);
+            }
+        }
+        return fileNames;
+    }
 }
@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.impl.actions.blocks;
 
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.actions.IUndoableAction;
 import com.blamejared.crafttweaker.impl_native.blocks.ExpandBlock;
 import net.minecraft.block.Block;
@@ -47,8 +48,14 @@ public class ActionSetBlockProperty<T> implements IUndoableAction {
     @Override
     public String describe() {
         
-        return "Set the value of " + propertyName + " on " + ExpandBlock.getCommandString(block) + " to: '" + this.valueNameGetter
-                .apply(newValue) + "'";
+        return describeDeferred().render();
+    }
+    
+    @Override
+    public ActionDescription describeDeferred() {
+        
+        return ActionDescription.of(this, "Set the value of %s on %s to: '%s'", propertyName, (Supplier<String>) () -> ExpandBlock
+                .getCommandString(block), (Supplier<String>) () -> this.valueNameGetter.apply(newValue));
     }
     
     @Override
@@ -2,12 +2,9 @@ package com.blamejared.crafttweaker.impl.actions.brewing;
 
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.impl.item.MCItemStackMutable;
-import net.minecraft.item.ItemStack;
-import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class ActionRemoveBrewingRecipe extends ActionBrewingBase {
@@ -29,21 +26,14 @@ public class ActionRemoveBrewingRecipe extends ActionBrewingBase {
     @Override
     public void apply() {
         
-        Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
-        while(registryIterator.hasNext()) {
-            IBrewingRecipe next = registryIterator.next();
-            ItemStack recipeOutput = next.getOutput(input.getInternal(), this.reagentStack.getInternal());
-            if(!recipeOutput.isEmpty() && output.matches(new MCItemStackMutable(recipeOutput))) {
-                removedRecipes.add(next);
-                registryIterator.remove();
-            }
-        }
+        removedRecipes.addAll(getIndex().removeRecipes(recipeOutput -> output.matches(new MCItemStackMutable(recipeOutput)), reagentStack
+                .getInternal(), input.getInternal()));
     }
     
     @Override
     public void undo() {
         
-        removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        BrewingIndex.restoreRecipes(removedRecipes);
     }
     
     @Override
@@ -1,11 +1,9 @@
 package com.blamejared.crafttweaker.impl.actions.brewing;
 
 import com.blamejared.crafttweaker.api.item.IItemStack;
-import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class ActionRemoveBrewingRecipeByInput extends ActionBrewingBase {
@@ -22,20 +20,13 @@ public class ActionRemoveBrewingRecipeByInput extends ActionBrewingBase {
     @Override
     public void apply() {
         
-        Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
-        while(registryIterator.hasNext()) {
-            IBrewingRecipe next = registryIterator.next();
-            if(next.isInput(input.getInternal())) {
-                removedRecipes.add(next);
-                registryIterator.remove();
-            }
-        }
+        removedRecipes.addAll(getIndex().removeRecipesByInput(input.getInternal()));
     }
     
     @Override
     public void undo() {
         
-        removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        BrewingIndex.restoreRecipes(removedRecipes);
     }
     
     @Override
@@ -1,20 +1,9 @@
 package com.blamejared.crafttweaker.impl.actions.brewing;
 
-import com.blamejared.crafttweaker.api.CraftTweakerAPI;
-import com.blamejared.crafttweaker.api.actions.IUndoableAction;
-import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
-import com.blamejared.crafttweaker.impl_native.potion.ExpandPotion;
-import net.minecraft.item.crafting.Ingredient;
-import net.minecraft.potion.Potion;
-import net.minecraft.potion.PotionBrewing;
-import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
-import net.minecraftforge.registries.IRegistryDelegate;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -34,44 +23,16 @@ public class ActionRemoveBrewingRecipeByReagent extends ActionBrewingBase {
     @Override
     public void apply() {
         
-        Iterator vanillaIterator = PotionBrewing.POTION_TYPE_CONVERSIONS.iterator();
-        while(vanillaIterator.hasNext()) {
-            Object mix = vanillaIterator.next();
-            
-            Ingredient reagentInput = getItemReagent(mix);
-            if(reagentInput == null) {
-                throw new RuntimeException("Error getting potion from mix: " + mix + "! Please make an issue on the issue tracker!");
-            }
-            if(reagentInput.test(reagent.getInternal())) {
-                removed.add(mix);
-                vanillaIterator.remove();
-            }
-        }
-        
-        Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
-        while(registryIterator.hasNext()) {
-            IBrewingRecipe next = registryIterator.next();
-            if(next.isIngredient(reagent.getInternal())) {
-                removedRecipes.add(next);
-                registryIterator.remove();
-            }
-        }
+        final BrewingIndex index = getIndex();
+        removed.addAll(index.removeMixesByReagent(reagent.getInternal()));
+        removedRecipes.addAll(index.removeRecipesByReagent(reagent.getInternal()));
     }
     
     @Override
     public void undo() {
         
-        for(Object o : removed) {
-            IRegistryDelegate<Potion> potionInput = getPotionInput(o);
-            Ingredient itemReagent = getItemReagent(o);
-            IRegistryDelegate<Potion> potionOutput = getPotionOutput(o);
-            if(potionInput == null || itemReagent == null || potionOutput == null) {
-                CraftTweakerAPI.logError("Error getting mix entries! potionInput: %s, itemReagent: %s, potionOutput: %s", potionInput, itemReagent, potionOutput);
-                continue;
-            }
-            PotionBrewing.addMix(potionInput.get(), itemReagent.getMatchingStacks()[0].getItem(), potionOutput.get());
-        }
-        removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        BrewingIndex.restoreMixes(removed);
+        BrewingIndex.restoreRecipes(removedRecipes);
     }
     
     @Override
@@ -0,0 +1,369 @@
+package com.blamejared.crafttweaker.impl.actions.brewing;
+
+import com.blamejared.crafttweaker.CraftTweaker;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionBrewing;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.brewing.BrewingRecipe;
+import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
+import net.minecraftforge.common.brewing.IBrewingRecipe;
+import net.minecraftforge.common.brewing.VanillaBrewingRecipe;
+import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
+import net.minecraftforge.registries.IRegistryDelegate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Index over the vanilla potion mixes and the Forge brewing recipes, shared by all brewing actions of a script run.
+ *
+ * Mixes are indexed by potion input, potion output and reagent item, simple Forge {@link BrewingRecipe}s by input and
+ * reagent item. Removals only mark the entries as removed, the backing lists are swept once by {@link #finishRun()}.
+ * Recipes that can't be indexed (custom {@link IBrewingRecipe} implementations or non-simple ingredients) are still
+ * tested one by one.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class BrewingIndex {
+    
+    private static final MethodHandle INPUT_GETTER;
+    private static final MethodHandle REAGENT_GETTER;
+    private static final MethodHandle OUTPUT_GETTER;
+    
+    private static BrewingIndex current;
+    
+    static {
+        MethodHandle input = null;
+        MethodHandle reagent = null;
+        MethodHandle output = null;
+        try {
+            final Class<?> mixPredicate = Class.forName("net.minecraft.potion.PotionBrewing$MixPredicate");
+            input = getter(mixPredicate, "field_185198_a");
+            reagent = getter(mixPredicate, "field_185199_b");
+            output = getter(mixPredicate, "field_185200_c");
+        } catch(ReflectiveOperationException | ObfuscationReflectionHelper.UnableToFindFieldException e) {
+            CraftTweaker.LOG.error("Unable to access brewing mixes, brewing recipe removals will not work!", e);
+        }
+        INPUT_GETTER = input;
+        REAGENT_GETTER = reagent;
+        OUTPUT_GETTER = output;
+    }
+    
+    private final List<IBrewingRecipe> recipes;
+    
+    private final Map<ResourceLocation, List<Mix>> mixesByInput = new HashMap<>();
+    private final Map<ResourceLocation, List<Mix>> mixesByOutput = new HashMap<>();
+    private final Map<Item, List<Mix>> mixesByReagent = new HashMap<>();
+    private final List<Mix> unindexedMixes = new ArrayList<>();
+    private final List<Ingredient> itemConversionReagents = new ArrayList<>();
+    
+    private final Map<Item, List<IBrewingRecipe>> recipesByInput = new HashMap<>();
+    private final Map<Item, List<IBrewingRecipe>> recipesByReagent = new HashMap<>();
+    private final List<IBrewingRecipe> unindexedRecipes = new ArrayList<>();
+    
+    private final Set<Object> stagedMixes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<IBrewingRecipe> stagedRecipes = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private BrewingIndex(List<IBrewingRecipe> recipes) {
+        
+        this.recipes = recipes;
+        for(Object mix : PotionBrewing.POTION_TYPE_CONVERSIONS) {
+            indexMix(new Mix(mix));
+        }
+        for(Object mix : PotionBrewing.POTION_ITEM_CONVERSIONS) {
+            itemConversionReagents.add(getReagent(mix));
+        }
+        for(IBrewingRecipe recipe : recipes) {
+            indexRecipe(recipe);
+        }
+    }
+    
+    /**
+     * Gets the index for the current script run, building it on first use.
+     *
+     * @param recipes The Forge brewing recipe list, see {@link com.blamejared.crafttweaker.impl.misc.CTBrewing#recipes}.
+     */
+    public static BrewingIndex get(List<IBrewingRecipe> recipes) {
+        
+        if(current == null || current.recipes != recipes) {
+            finishRun();
+            current = new BrewingIndex(recipes);
+        }
+        return current;
+    }
+    
+    /**
+     * Applies all staged removals to the backing lists and drops the index, so the next run sees any changes other mods
+     * made in between.
+     */
+    public static void finishRun() {
+        
+        if(current != null) {
+            current.sweep();
+            current = null;
+        }
+    }
+    
+    /**
+     * Adds a recipe that was just registered to the index, if one is built.
+     */
+    public static void recipeAdded(IBrewingRecipe recipe) {
+        
+        if(current != null) {
+            current.indexRecipe(recipe);
+        }
+    }
+    
+    public static IRegistryDelegate<Potion> getPotionInput(Object mix) {
+        
+        return (IRegistryDelegate<Potion>) invoke(INPUT_GETTER, mix);
+    }
+    
+    public static Ingredient getReagent(Object mix) {
+        
+        return (Ingredient) invoke(REAGENT_GETTER, mix);
+    }
+    
+    public static IRegistryDelegate<Potion> getPotionOutput(Object mix) {
+        
+        return (IRegistryDelegate<Potion>) invoke(OUTPUT_GETTER, mix);
+    }
+    
+    /**
+     * Puts mixes that were removed by an action back into the vanilla list.
+     */
+    public static void restoreMixes(List<Object> mixes) {
+        
+        finishRun();
+        PotionBrewing.POTION_TYPE_CONVERSIONS.addAll((List) mixes);
+    }
+    
+    /**
+     * Puts recipes that were removed by an action back into the Forge registry.
+     */
+    public static void restoreRecipes(List<IBrewingRecipe> recipes) {
+        
+        finishRun();
+        recipes.forEach(BrewingRecipeRegistry::addRecipe);
+    }
+    
+    public List<Object> removeMixesByInput(Potion input) {
+        
+        return stageMixes(mixesByInput.get(input.getRegistryName()), mix -> true);
+    }
+    
+    public List<Object> removeMixesByOutput(Potion output) {
+        
+        return stageMixes(mixesByOutput.get(output.getRegistryName()), mix -> true);
+    }
+    
+    public List<Object> removeMixesByReagent(ItemStack reagent) {
+        
+        final Predicate<Mix> matches = mix -> mix.reagent.test(reagent);
+        final List<Object> removed = stageMixes(mixesByReagent.get(reagent.getItem()), matches);
+        removed.addAll(stageMixes(unindexedMixes, matches));
+        return removed;
+    }
+    
+    public List<Object> removeMixes(Potion output, ItemStack reagent, Potion input) {
+        
+        return stageMixes(mixesByInput.get(input.getRegistryName()), mix -> mix.output.equals(output.getRegistryName()) && mix.reagent
+                .test(reagent));
+    }
+    
+    public List<IBrewingRecipe> removeRecipesByInput(ItemStack input) {
+        
+        final Predicate<IBrewingRecipe> matches = recipe -> recipe.isInput(input);
+        final List<IBrewingRecipe> removed = stageRecipes(recipesByInput.get(input.getItem()), matches);
+        removed.addAll(stageRecipes(unindexedRecipes, matches));
+        return removed;
+    }
+    
+    public List<IBrewingRecipe> removeRecipesByReagent(ItemStack reagent) {
+        
+        final Predicate<IBrewingRecipe> matches = recipe -> isIngredient(recipe, reagent);
+        final List<IBrewingRecipe> removed = stageRecipes(recipesByReagent.get(reagent.getItem()), matches);
+        removed.addAll(stageRecipes(unindexedRecipes, matches));
+        return removed;
+    }
+    
+    public List<IBrewingRecipe> removeRecipes(Predicate<ItemStack> output, ItemStack reagent, ItemStack input) {
+        
+        final List<IBrewingRecipe> removed = stageRecipes(recipesByReagent.get(reagent.getItem()), recipe -> matchesOutput(recipe, output, reagent, input));
+        if(!unindexedRecipes.isEmpty() && !stagedMixes.isEmpty()) {
+            // The output of unindexed recipes (e.g. the vanilla potion recipe) may depend on the mixes in the vanilla list
+            sweep();
+        }
+        removed.addAll(stageRecipes(unindexedRecipes, recipe -> matchesOutput(recipe, output, reagent, input)));
+        return removed;
+    }
+    
+    private static boolean matchesOutput(IBrewingRecipe recipe, Predicate<ItemStack> output, ItemStack reagent, ItemStack input) {
+        
+        final ItemStack recipeOutput = recipe.getOutput(input, reagent);
+        return !recipeOutput.isEmpty() && output.test(recipeOutput);
+    }
+    
+    /**
+     * {@link VanillaBrewingRecipe#isIngredient(ItemStack)} asks {@link PotionBrewing#isReagent(ItemStack)}, which would
+     * still see staged mixes, so it is answered from the index instead.
+     */
+    private boolean isIngredient(IBrewingRecipe recipe, ItemStack reagent) {
+        
+        if(!(recipe instanceof VanillaBrewingRecipe)) {
+            return recipe.isIngredient(reagent);
+        }
+        for(Ingredient itemConversionReagent : itemConversionReagents) {
+            if(itemConversionReagent.test(reagent)) {
+                return true;
+            }
+        }
+        final Predicate<Mix> matches = mix -> !mix.removed && mix.reagent.test(reagent);
+        return mixesByReagent.getOrDefault(reagent.getItem(), Collections.emptyList())
+                .stream()
+                .anyMatch(matches) || unindexedMixes.stream().anyMatch(matches);
+    }
+    
+    private List<Object> stageMixes(List<Mix> candidates, Predicate<Mix> matches) {
+        
+        final List<Object> removed = new ArrayList<>();
+        if(candidates == null) {
+            return removed;
+        }
+        for(Mix mix : candidates) {
+            if(!mix.removed && matches.test(mix)) {
+                mix.removed = true;
+                stagedMixes.add(mix.instance);
+                removed.add(mix.instance);
+            }
+        }
+        return removed;
+    }
+    
+    private List<IBrewingRecipe> stageRecipes(List<IBrewingRecipe> candidates, Predicate<IBrewingRecipe> matches) {
+        
+        final List<IBrewingRecipe> removed = new ArrayList<>();
+        if(candidates == null) {
+            return removed;
+        }
+        for(IBrewingRecipe recipe : candidates) {
+            if(!stagedRecipes.contains(recipe) && matches.test(recipe)) {
+                stagedRecipes.add(recipe);
+                removed.add(recipe);
+            }
+        }
+        return removed;
+    }
+    
+    private void sweep() {
+        
+        if(!stagedMixes.isEmpty()) {
+            PotionBrewing.POTION_TYPE_CONVERSIONS.removeIf(stagedMixes::contains);
+            stagedMixes.clear();
+        }
+        if(!stagedRecipes.isEmpty()) {
+            recipes.removeIf(stagedRecipes::contains);
+            recipesByInput.values().forEach(list -> list.removeIf(stagedRecipes::contains));
+            recipesByReagent.values().forEach(list -> list.removeIf(stagedRecipes::contains));
+            unindexedRecipes.removeIf(stagedRecipes::contains);
+            stagedRecipes.clear();
+        }
+    }
+    
+    private void indexMix(Mix mix) {
+        
+        mixesByInput.computeIfAbsent(mix.input, ignored -> new ArrayList<>()).add(mix);
+        mixesByOutput.computeIfAbsent(mix.output, ignored -> new ArrayList<>()).add(mix);
+        if(mix.reagent.isSimple()) {
+            addByItems(mixesByReagent, mix.reagent, mix);
+        } else {
+            unindexedMixes.add(mix);
+        }
+    }
+    
+    private void indexRecipe(IBrewingRecipe recipe) {
+        
+        if(recipe.getClass() != BrewingRecipe.class) {
+            unindexedRecipes.add(recipe);
+            return;
+        }
+        
+        final BrewingRecipe brewingRecipe = (BrewingRecipe) recipe;
+        if(!brewingRecipe.getInput().isSimple() || !brewingRecipe.getIngredient().isSimple()) {
+            unindexedRecipes.add(recipe);
+            return;
+        }
+        addByItems(recipesByInput, brewingRecipe.getInput(), recipe);
+        addByItems(recipesByReagent, brewingRecipe.getIngredient(), recipe);
+    }
+    
+    /**
+     * Simple ingredients only match the items of their matching stacks. An ingredient without matching stacks matches
+     * the empty stack, whose item is air.
+     */
+    private static <T> void addByItems(Map<Item, List<T>> index, Ingredient ingredient, T value) {
+        
+        final ItemStack[] matchingStacks = ingredient.getMatchingStacks();
+        if(matchingStacks.length == 0) {
+            index.computeIfAbsent(Items.AIR, ignored -> new ArrayList<>()).add(value);
+            return;
+        }
+        for(ItemStack matchingStack : matchingStacks) {
+            final List<T> values = index.computeIfAbsent(matchingStack.getItem(), ignored -> new ArrayList<>());
+            if(values.isEmpty() || values.get(values.size() - 1) != value) {
+                values.add(value);
+            }
+        }
+    }
+    
+    private static MethodHandle getter(Class<?> owner, String fieldName) throws IllegalAccessException {
+        
+        final Field field = ObfuscationReflectionHelper.findField(owner, fieldName);
+        return MethodHandles.lookup()
+                .unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+    }
+    
+    private static Object invoke(MethodHandle getter, Object mix) {
+        
+        if(getter == null) {
+            throw new RuntimeException("Error getting potion from mix: " + mix + "! Please make an issue on the issue tracker!");
+        }
+        try {
+            return (Object) getter.invokeExact(mix);
+        } catch(Throwable throwable) {
+            throw new RuntimeException("Error getting potion from mix: " + mix + "! Please make an issue on the issue tracker!", throwable);
+        }
+    }
+    
+    private static final class Mix {
+        
+        private final Object instance;
+        private final ResourceLocation input;
+        private final Ingredient reagent;
+        private final ResourceLocation output;
+        private boolean removed;
+        
+        private Mix(Object instance) {
+            
+            this.instance = instance;
+            this.input = getPotionInput(instance).get().getRegistryName();
+            this.reagent = getReagent(instance);
+            this.output = getPotionOutput(instance).get().getRegistryName();
+        }
+    }
+    
+}
@@ -0,0 +1,230 @@
+package com.blamejared.crafttweaker.impl.actions.items;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
+import com.blamejared.crafttweaker.api.actions.IUndoableAction;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import net.minecraft.item.Food;
+import net.minecraft.item.Item;
+import net.minecraft.item.Rarity;
+import net.minecraftforge.fml.LogicalSide;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sets the singleton properties of items, like their max stack size or rarity, for a whole script run.
+ *
+ * Only the first edit of a run goes through {@link CraftTweakerAPI#apply(com.blamejared.crafttweaker.api.actions.IAction)},
+ * all following edits of that run are added to the same action through
+ * {@link CraftTweakerAPI#applyToBatch(com.blamejared.crafttweaker.api.actions.IAction, ActionDescription, Runnable)}.
+ * The original value of every edited property is stored once per item, so undoing restores all items in one step, no
+ * matter how often a property was set. Edits made after the scripts of a run have finished, like in event handlers, are
+ * applied as actions of their own.
+ */
+public class ActionSetItemProperties implements IUndoableAction {
+    
+    private static final Map<ScriptRun, ActionSetItemProperties> BATCHES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final Map<Item, Snapshot> snapshots = new IdentityHashMap<>();
+    private final Edit firstEdit;
+    private int editCount;
+    
+    private ActionSetItemProperties(Edit firstEdit) {
+        
+        this.firstEdit = firstEdit;
+    }
+    
+    /**
+     * Used by the deprecated single property actions, which addons may still apply on their own.
+     */
+    ActionSetItemProperties(IItemStack stack, Property property, Object value) {
+        
+        this(new Edit(stack, property, value));
+    }
+    
+    public static void setMaxStackSize(IItemStack stack, int maxStackSize) {
+        
+        edit(stack, Property.MAX_STACK_SIZE, maxStackSize);
+    }
+    
+    public static void setMaxDamage(IItemStack stack, int maxDamage) {
+        
+        edit(stack, Property.MAX_DAMAGE, maxDamage);
+    }
+    
+    public static void setRarity(IItemStack stack, Rarity rarity) {
+        
+        edit(stack, Property.RARITY, rarity);
+    }
+    
+    public static void setBurnable(IItemStack stack, boolean burnable) {
+        
+        edit(stack, Property.BURNABLE, burnable);
+    }
+    
+    public static void setFood(IItemStack stack, Food food) {
+        
+        edit(stack, Property.FOOD, food);
+    }
+    
+    private static void edit(IItemStack stack, Property property, Object value) {
+        
+        final ScriptRun run = CraftTweakerAPI.getCurrentRun();
+        final Edit edit = new Edit(stack, property, value);
+        final ActionSetItemProperties batch = BATCHES.get(run);
+        if(batch == null) {
+            // Applying registers the batch, if it is not applied (e.g. on a reload) the next edit simply tries again
+            CraftTweakerAPI.apply(new ActionSetItemProperties(edit));
+            return;
+        }
+        
+        CraftTweakerAPI.applyToBatch(batch, edit.describeDeferred(batch), () -> batch.applyEdit(edit));
+    }
+    
+    /**
+     * Ends the batch of the given run, so edits made after it has finished are applied as a new action.
+     */
+    public static void finishRun(ScriptRun run) {
+        
+        final ActionSetItemProperties batch = BATCHES.remove(run);
+        if(batch != null && batch.editCount > 1) {
+            CraftTweakerAPI.logInfo("Applied %s item property changes to %s items.", batch.editCount, batch.snapshots.size());
+        }
+    }
+    
+    private void applyEdit(Edit edit) {
+        
+        final Item item = edit.stack.getInternal().getItem();
+        snapshots.computeIfAbsent(item, Snapshot::new).store(edit.property);
+        edit.property.setter.accept(item, edit.value);
+        editCount++;
+    }
+    
+    @Override
+    public void apply() {
+        
+        applyEdit(firstEdit);
+        // Runs that have finished already are never finished again, so their edits aren't batched
+        final ScriptRun run = CraftTweakerAPI.getCurrentRun();
+        if(run.isRunning()) {
+            BATCHES.putIfAbsent(run, this);
+        }
+    }
+    
+    @Override
+    public String describe() {
+        
+        return firstEdit.describe();
+    }
+    
+    @Override
+    public ActionDescription describeDeferred() {
+        
+        return firstEdit.describeDeferred(this);
+    }
+    
+    @Override
+    public void undo() {
+        
+        snapshots.values().forEach(Snapshot::restore);
+        snapshots.clear();
+    }
+    
+    @Override
+    public String describeUndo() {
+        
+        return String.format("Resetting %s item property changes on %s items.", editCount, snapshots.size());
+    }
+    
+    @Override
+    public boolean shouldApplyOn(LogicalSide side) {
+        
+        return shouldApplySingletons();
+    }
+    
+    enum Property {
+        MAX_STACK_SIZE("Set the max stack size of %s to %s.", item -> item.maxStackSize, (item, value) -> item.maxStackSize = (Integer) value),
+        MAX_DAMAGE("Set the max damage of %s to %s.", item -> item.maxDamage, (item, value) -> item.maxDamage = (Integer) value),
+        RARITY("Set the rarity of %s to %s.", item -> item.rarity, (item, value) -> item.rarity = (Rarity) value),
+        BURNABLE("Set burnable of %s to %s.", item -> item.burnable, (item, value) -> item.burnable = (Boolean) value),
+        FOOD("Set the food of %s to %s.", item -> item.food, (item, value) -> item.food = (Food) value);
+        
+        private final String format;
+        private final Function<Item, Object> getter;
+        private final BiConsumer<Item, Object> setter;
+        
+        Property(String format, Function<Item, Object> getter, BiConsumer<Item, Object> setter) {
+            
+            this.format = format;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+    
+    private static final class Edit {
+        
+        private final IItemStack stack;
+        private final Property property;
+        private final Object value;
+        
+        private Edit(IItemStack stack, Property property, Object value) {
+            
+            this.stack = stack;
+            this.property = property;
+            this.value = value;
+        }
+        
+        private String describe() {
+            
+            return String.format(property.format, stack.getCommandString(), describeValue());
+        }
+        
+        private ActionDescription describeDeferred(ActionSetItemProperties action) {
+            
+            return ActionDescription.of(action, property.format, stack, (Supplier<Object>) this::describeValue);
+        }
+        
+        private Object describeValue() {
+            
+            if(!(value instanceof Food)) {
+                return value;
+            }
+            final Food food = (Food) value;
+            return String.format("food with stats: hunger: %s, saturation: %s, isMeat: %s, isFastToEat: %s, canEatWhenFull: %s, effects: %s", food
+                    .getHealing(), food.getSaturation(), food.isMeat(), food.isFastEating(), food.canEatWhenFull(), food.getEffects());
+        }
+    }
+    
+    private static final class Snapshot {
+        
+        private final Item item;
+        private final Map<Property, Object> originals = new EnumMap<>(Property.class);
+        
+        private Snapshot(Item item) {
+            
+            this.item = item;
+        }
+        
+        private void store(Property property) {
+            
+            // Not computeIfAbsent, the original value may be null (e.g. the food of an item that is not edible)
+            if(!originals.containsKey(property)) {
+                originals.put(property, property.getter.apply(item));
+            }
+        }
+        
+        private void restore() {
+            
+            originals.forEach((property, value) -> property.setter.accept(item, value));
+        }
+    }
+    
+}
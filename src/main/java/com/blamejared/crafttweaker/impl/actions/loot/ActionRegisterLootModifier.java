@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.impl.actions.loot;
 
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.logger.ILogger;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.api.loot.modifiers.ILootModifier;
@@ -13,6 +14,7 @@ import java.util.function.Supplier;
 public class ActionRegisterLootModifier extends ActionLootModifier {
     private final ResourceLocation name;
     private final Supplier<IGlobalLootModifier> glm;
+    private IGlobalLootModifier builtGlm;
 
     public ActionRegisterLootModifier(final ResourceLocation name, final ILootCondition[] conditions, final ILootModifier function,
                                       final Supplier<Map<ResourceLocation, IGlobalLootModifier>> mapGetter) {
@@ -21,9 +23,17 @@ public class ActionRegisterLootModifier extends ActionLootModifier {
         this.glm = () -> new CTLootModifier(this.name.toString(), conditions, function);
     }
 
+    // Built once, since validate and apply both need it and building compiles the conditions
+    private IGlobalLootModifier getGlm() {
+        if (this.builtGlm == null) {
+            this.builtGlm = this.glm.get();
+        }
+        return this.builtGlm;
+    }
+
     @Override
     public void apply() {
-        this.getModifiersMap().put(this.name, this.glm.get());
+        this.getModifiersMap().put(this.name, this.getGlm());
     }
 
     @Override
@@ -31,10 +41,15 @@ public class ActionRegisterLootModifier extends ActionLootModifier {
         return "Registering loot modifier with name '" + this.name + "'";
     }
 
+    @Override
+    public ActionDescription describeDeferred() {
+        return ActionDescription.of(this, "Registering loot modifier with name '%s'", this.name);
+    }
+
     @Override
     public boolean validate(ILogger logger) {
         if (!super.validate(logger)) return false;
-        if (this.glm.get() == null) {
+        if (this.getGlm() == null) {
             logger.throwingErr("Unable to register a null loot modifier!", new NullPointerException("Null loot modifier"));
             return false;
         }
@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.impl.actions.misc;
 
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.actions.IUndoableAction;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import net.minecraft.block.ComposterBlock;
@@ -34,7 +35,12 @@ public class ActionSetCompostable implements IUndoableAction {
     
     @Override
     public String describe() {
-        return "Setting Composter value of: " + stack.getCommandString() + ", to: " + newValue + ", from: " + oldValue;
+        return describeDeferred().render();
+    }
+    
+    @Override
+    public ActionDescription describeDeferred() {
+        return ActionDescription.of(this, "Setting Composter value of: %s, to: %s, from: %s", stack, newValue, oldValue);
     }
     
     @Override
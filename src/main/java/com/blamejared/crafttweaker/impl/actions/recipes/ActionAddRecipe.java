@@ -1,8 +1,8 @@
 package com.blamejared.crafttweaker.impl.actions.recipes;
 
-import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.impl.item.MCItemStackMutable;
+import com.blamejared.crafttweaker.impl.managers.RecipeNameRegistry;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.util.ResourceLocation;
 
@@ -31,12 +31,7 @@ public class ActionAddRecipe extends ActionRecipeBase {
     public void apply() {
         
         final Map<ResourceLocation, IRecipe<?>> recipes = getManager().getRecipes();
-        if (recipes.containsKey(recipe.getId())) {
-            CraftTweakerAPI.logWarning(
-                    "A recipe with the name '%s' already exists and will be overwritten: this is most likely an error in your scripts",
-                    recipe.getId().getPath()
-            );
-        }
+        RecipeNameRegistry.get().add(getRecipeType(), recipe.getId(), recipes.containsKey(recipe.getId()));
         recipes.put(recipe.getId(), recipe);
     }
     
@@ -7,7 +7,10 @@ import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 
 public abstract class ActionRecipeBase implements IRuntimeAction {
     
@@ -29,6 +32,30 @@ public abstract class ActionRecipeBase implements IRuntimeAction {
         return this.getManager().getRecipes();
     }
     
+    public Map<ResourceLocation, IRecipe<?>> getRecipeView() {
+        
+        return this.getManager().getRecipeView();
+    }
+    
+    /**
+     * Removes every recipe of this type that matches the filter. The recipe type's map is only copied if something is
+     * actually going to be removed from it.
+     */
+    protected void removeRecipes(BiPredicate<ResourceLocation, IRecipe<?>> filter) {
+        
+        final List<ResourceLocation> names = new ArrayList<>();
+        getRecipeView().forEach((name, recipe) -> {
+            if(filter.test(name, recipe)) {
+                names.add(name);
+            }
+        });
+        if(names.isEmpty()) {
+            return;
+        }
+        final Map<ResourceLocation, IRecipe<?>> recipes = getRecipes();
+        names.forEach(recipes::remove);
+    }
+    
     public IRecipeType getRecipeType() {
         
         return this.getManager().getRecipeType();
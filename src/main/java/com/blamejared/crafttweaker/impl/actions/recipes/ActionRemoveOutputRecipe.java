@@ -4,11 +4,6 @@ import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.impl.item.MCItemStackMutable;
-import net.minecraft.item.crafting.IRecipe;
-import net.minecraft.util.ResourceLocation;
-
-import java.util.List;
-import java.util.stream.Collectors;
 
 // See AcitonRemoveRecipeByOutput
 @Deprecated
@@ -27,8 +22,7 @@ public class ActionRemoveOutputRecipe extends ActionRecipeBase {
     
     @Override
     public void apply() {
-        List<ResourceLocation> list = getManager().getRecipes().values().stream().filter(iRecipe -> output.matches(new MCItemStackMutable(iRecipe.getRecipeOutput()))).map(IRecipe::getId).collect(Collectors.toList());
-        list.forEach(getManager().getRecipes()::remove);
+        removeRecipes((location, iRecipe) -> output.matches(new MCItemStackMutable(iRecipe.getRecipeOutput())));
     }
     
     @Override
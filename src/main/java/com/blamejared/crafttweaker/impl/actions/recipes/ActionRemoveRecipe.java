@@ -29,7 +29,7 @@ public class ActionRemoveRecipe extends ActionRecipeBase {
     @Override
     public void apply() {
         
-        getRecipes().keySet().removeIf(location -> removePredicate.test(getRecipes().get(location)));
+        removeRecipes((location, recipe) -> removePredicate.test(recipe));
     }
     
     @Override
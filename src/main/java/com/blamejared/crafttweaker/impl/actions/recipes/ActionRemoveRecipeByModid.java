@@ -24,10 +24,8 @@ public class ActionRemoveRecipeByModid extends ActionRecipeBase {
     @Override
     public void apply() {
         
-        getRecipes()
-                .keySet()
-                .removeIf(resourceLocation -> resourceLocation.getNamespace()
-                        .equals(modid) && !exclude.test(resourceLocation.getPath()));
+        removeRecipes((resourceLocation, recipe) -> resourceLocation.getNamespace()
+                .equals(modid) && !exclude.test(resourceLocation.getPath()));
     }
     
     @Override
@@ -29,7 +29,7 @@ public class ActionRemoveRecipeByName extends ActionRecipeBase {
     @Override
     public boolean validate(ILogger logger) {
         
-        boolean containsKey = getRecipes().containsKey(name);
+        boolean containsKey = getRecipeView().containsKey(name);
         if(!containsKey) {
             logger.warning("No recipe with type: \"" + getRecipeTypeName() + "\" and name: \"" + name + "\"");
         }
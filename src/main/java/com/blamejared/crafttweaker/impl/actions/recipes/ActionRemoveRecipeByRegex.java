@@ -17,9 +17,7 @@ public class ActionRemoveRecipeByRegex extends ActionRecipeBase {
     @Override
     public void apply() {
         
-        getRecipes()
-                .keySet()
-                .removeIf(resourceLocation -> compiledPat.matcher(resourceLocation.toString()).matches());
+        removeRecipes((resourceLocation, recipe) -> compiledPat.matcher(resourceLocation.toString()).matches());
     }
     
     @Override
@@ -3,40 +3,52 @@ package com.blamejared.crafttweaker.impl.actions.recipes;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.util.ResourceLocation;
-import net.minecraftforge.common.util.Lazy;
 
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 public class ActionReplaceRecipe extends ActionRecipeBase {
-    private final Supplier<ActionAddRecipe> addRecipe;
-    private final ActionRemoveRecipeByName removeRecipe;
     private final ResourceLocation oldName;
-    private final Supplier<ResourceLocation> newName;
+    private Function<ResourceLocation, ResourceLocation> nameGenerator;
+    private Function<ResourceLocation, IRecipe<?>> recipeCreator;
+    private ResourceLocation newName;
     
     public ActionReplaceRecipe(final IRecipeManager manager, final Function<ResourceLocation, ResourceLocation> nameGenerator,
                                final IRecipe<?> oldRecipe, final Function<ResourceLocation, IRecipe<?>> recipeCreator) {
         super(manager);
         this.oldName = oldRecipe.getId();
-        this.newName = Lazy.concurrentOf(() -> nameGenerator.apply(this.oldName));
-        this.removeRecipe = new ActionRemoveRecipeByName(manager, this.oldName);
-        this.addRecipe = () -> new ActionAddRecipe(manager, recipeCreator.apply(this.newName.get()));
+        this.nameGenerator = nameGenerator;
+        this.recipeCreator = recipeCreator;
     }
     
     @Override
     public void apply() {
-        this.removeRecipe.apply();
-        this.addRecipe.get().apply();
+        if (this.recipeCreator == null) {
+            return;
+        }
+        new ActionRemoveRecipeByName(this.getManager(), this.oldName).apply();
+        new ActionAddRecipe(this.getManager(), this.recipeCreator.apply(this.getNewName())).apply();
+        // The creator holds on to the replaced recipe and all of its ingredients, the recipe maps are rolled back from
+        // their snapshots instead of through this action
+        this.recipeCreator = null;
     }
     
     @Override
     public String describe() {
+        final ResourceLocation newName = this.getNewName();
         return String.format(
                 "- Replacing \"%s\" recipe with name \"%s\"%s",
                 this.getManager().getBracketResourceLocation(),
                 this.oldName,
-                this.oldName.equals(this.newName.get())? "" : String.format(", renaming it to \"%s\"", this.newName.get())
+                this.oldName.equals(newName)? "" : String.format(", renaming it to \"%s\"", newName)
         );
     }
     
+    private synchronized ResourceLocation getNewName() {
+        if (this.newName == null) {
+            this.newName = this.nameGenerator.apply(this.oldName);
+            this.nameGenerator = null;
+        }
+        return this.newName;
+    }
+    
 }
@@ -18,7 +18,7 @@ public class ActionRemoveAllGenericRecipes extends ActionWholeRegistryBase {
         int totalRemoved = 0;
         
         for(IRecipeType<?> recipeType : recipesByType.keySet()) {
-            final int removedRecipes = remove(recipesByType.get(recipeType));
+            final int removedRecipes = remove(recipeType, recipesByType.get(recipeType));
             if(removedRecipes > 0) {
                 totalRemoved += removedRecipes;
                 final String commandString = new RecipeManagerWrapper(recipeType).getCommandString();
@@ -31,9 +31,11 @@ public class ActionRemoveAllGenericRecipes extends ActionWholeRegistryBase {
         CraftTweakerAPI.logInfo("Removed %s recipes across these %s managers: %s", totalRemoved, managerCount, recipeTypeList);
     }
     
-    private int remove(Map<ResourceLocation, IRecipe<?>> map) {
-        final int size = map.size();
-        map.clear();
+    private int remove(IRecipeType<?> recipeType, Map<ResourceLocation, IRecipe<?>> view) {
+        final int size = view.size();
+        if(size > 0) {
+            getMutableRecipes(recipeType).clear();
+        }
         return size;
     }
     
@@ -6,9 +6,9 @@ import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.util.ResourceLocation;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 
 public abstract class ActionRemoveGenericRecipeBase extends ActionWholeRegistryBase {
@@ -20,7 +20,7 @@ public abstract class ActionRemoveGenericRecipeBase extends ActionWholeRegistryB
         
         final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> recipesByType = getRecipesByType();
         for(IRecipeType<?> recipeType : recipesByType.keySet()) {
-            int removedRecipes = applyToRegistry(recipesByType.get(recipeType));
+            int removedRecipes = applyToRegistry(recipeType, recipesByType.get(recipeType));
             if(removedRecipes > 0) {
                 final String commandString = new RecipeManagerWrapper(recipeType).getCommandString();
                 numberOfRemovedRecipesByType.put(commandString, removedRecipes);
@@ -32,11 +32,21 @@ public abstract class ActionRemoveGenericRecipeBase extends ActionWholeRegistryB
         CraftTweakerAPI.logInfo("Removed %s recipes registered in these %s recipe managers: %s", numberOfRemovedRecipes, numberOfRecipeTypes, recipeTypeList);
     }
     
-    private int applyToRegistry(Map<ResourceLocation, IRecipe<?>> registry) {
+    private int applyToRegistry(IRecipeType<?> recipeType, Map<ResourceLocation, IRecipe<?>> view) {
     
-        final int initialSize = registry.size();
-        registry.values().removeIf(this::shouldRemove);
-        return initialSize - registry.size();
+        // Only copy the recipe type's map if something is actually going to be removed from it
+        final List<ResourceLocation> names = new ArrayList<>();
+        view.forEach((name, recipe) -> {
+            if(shouldRemove(recipe)) {
+                names.add(name);
+            }
+        });
+        if(names.isEmpty()) {
+            return 0;
+        }
+        final Map<ResourceLocation, IRecipe<?>> registry = getMutableRecipes(recipeType);
+        names.forEach(registry::remove);
+        return names.size();
     }
     
     protected abstract boolean shouldRemove(IRecipe<?> recipe);
@@ -2,10 +2,9 @@ package com.blamejared.crafttweaker.impl.actions.recipes.generic;
 
 import com.blamejared.crafttweaker.CraftTweaker;
 import com.blamejared.crafttweaker.api.actions.IRuntimeAction;
-import com.blamejared.crafttweaker.impl.managers.CTCraftingTableManager;
+import com.blamejared.crafttweaker.impl.managers.RecipeMapOverlay;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeType;
-import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.util.ResourceLocation;
 
 import java.util.HashMap;
@@ -14,16 +13,23 @@ import java.util.stream.Collectors;
 
 public abstract class ActionWholeRegistryBase implements IRuntimeAction {
     
-    private RecipeManager getRecipeManager() {
-        return CTCraftingTableManager.recipeManager;
-    }
-    
+    /**
+     * Gets read-only views of the recipes of every type, use {@link #getMutableRecipes(IRecipeType)} to modify them.
+     */
     protected Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> getRecipesByType() {
-        final HashMap<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> result = new HashMap<>(getRecipeManager().recipes);
+        final RecipeMapOverlay overlay = RecipeMapOverlay.get();
+        final HashMap<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> result = new HashMap<>();
+        for(IRecipeType<?> recipeType : overlay.getRecipeTypes()) {
+            result.put(recipeType, overlay.view(recipeType));
+        }
         result.remove(CraftTweaker.RECIPE_TYPE_SCRIPTS);
         return result;
     }
     
+    protected Map<ResourceLocation, IRecipe<?>> getMutableRecipes(IRecipeType<?> recipeType) {
+        return RecipeMapOverlay.get().mutable(recipeType);
+    }
+    
     protected String makeRecipeList(Map<String, Integer> recipeTypes) {
         return recipeTypes.entrySet().stream()
                 .map(entry -> String.format("%s: %s", entry.getKey(), entry.getValue()))
@@ -8,6 +8,7 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.impl.entity.MCEntityType;
 import com.blamejared.crafttweaker.impl.fluid.MCFluidStack;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import com.blamejared.crafttweaker.impl.item.MCItemStack;
 import com.blamejared.crafttweaker.impl.util.text.MCTextFormatting;
 import com.blamejared.crafttweaker.impl_native.block.material.ExpandMaterial;
@@ -356,7 +357,7 @@ public class BracketHandlers {
             throw new IllegalArgumentException("Could not get item with name: <item:" + tokens + ">! Item does not appear to exist!");
         }
         final ItemStack value = new ItemStack(ForgeRegistries.ITEMS.getValue(key));
-        return new MCItemStack(value);
+        return IngredientInterner.intern(new MCItemStack(value));
     }
 
     @BracketResolver("potion")
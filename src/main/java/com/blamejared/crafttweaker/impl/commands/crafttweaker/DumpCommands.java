@@ -2,7 +2,9 @@ package com.blamejared.crafttweaker.impl.commands.crafttweaker;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
+import com.blamejared.crafttweaker.api.actions.IAction;
 import com.blamejared.crafttweaker.api.text.FormattedTextComponent;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.LoaderActions;
 import com.blamejared.crafttweaker.impl.commands.CTCommands;
 import com.blamejared.crafttweaker.impl.commands.CommandImpl;
 import com.blamejared.crafttweaker.impl.commands.CommandUtilities;
@@ -22,6 +24,7 @@ import java.io.PrintWriter;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -80,6 +83,21 @@ public final class DumpCommands {
         });
     
     
+        CTCommands.registerPlayerDump("actions", "Outputs the descriptions of all actions applied by the last script runs", (player, stack) -> {
+            LoaderActions.getKnownLoaderNames().forEach(loaderName -> {
+                CraftTweakerAPI.logDump("Loader '%s':", loaderName);
+                final List<IAction> actionList = LoaderActions.getActionForLoader(loaderName).getActionList();
+                synchronized(actionList) {
+                    actionList.stream()
+                            .map(action -> action.describeDeferred().render())
+                            .forEach(description -> CraftTweakerAPI.logDump("%s", description));
+                }
+            });
+            
+            CommandUtilities.send(CommandUtilities.color("Action list generated! Check the crafttweaker.log file!", TextFormatting.GREEN), player);
+            return 0;
+        });
+        
         CTCommands.registerPlayerDump("loot_modifiers", "Outputs the names of all registered loot modifiers", (player, stack) -> {
             CTLootManager.LOOT_MANAGER.getModifierManager().getAllNames().forEach(CraftTweakerAPI::logDump);
             CommandUtilities.send(CommandUtilities.color("Loot modifiers list generated! Check the crafttweaker.log file!", TextFormatting.GREEN), player);
@@ -1,13 +1,21 @@
 package com.blamejared.crafttweaker.impl.commands.crafttweaker;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
-import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
-import com.blamejared.crafttweaker.api.zencode.impl.loaders.LoaderActions;
 import com.blamejared.crafttweaker.impl.commands.CTCommands;
 import com.blamejared.crafttweaker.impl.commands.CommandUtilities;
+import com.blamejared.crafttweaker.impl.profiler.ScriptProfiler;
+import com.blamejared.crafttweaker.impl.script.ScriptChecker;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.TextFormatting;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 public final class ScriptCommands {
     private ScriptCommands() {}
@@ -23,23 +31,65 @@ public final class ScriptCommands {
             return 0;
         }));
         
-        CTCommands.registerCommand(CTCommands.playerCommand("syntax", "Checks the syntax of the scripts", (player, stack) -> {
+        CTCommands.registerCommand(CTCommands.playerCommand("syntax", "Checks the syntax of the scripts in the background and writes all problems to " + ScriptChecker.REPORT_FILE.getPath(), (player, stack) -> {
             //TODO: get loader name from '/ct syntax loaderName'?
-            LoaderActions.getKnownLoaderNames().forEach(loader -> {
-                CommandUtilities.send(CommandUtilities.color("Starting loading scripts for loader '" + loader + "'", TextFormatting.YELLOW), player);
-                CraftTweakerAPI.loadScripts(new ScriptLoadingOptions().setLoaderName(loader));
-            });
-        
+            return checkScripts(player, false);
+        }));
+    
+        CTCommands.registerCommand(CTCommands.playerCommand("format", "Checks the syntax of the scripts in the background and formats them into another folder.", (player, stack) -> checkScripts(player, true)));
+    
+        CTCommands.registerCommand(CTCommands.playerCommand("profile", "Writes the recorded script, action and event handler timings to logs/crafttweaker_profile.json", (player, stack) -> {
+            try {
+                final File report = ScriptProfiler.writeReport();
+                CommandUtilities.send(CommandUtilities.open(new StringTextComponent(CommandUtilities.color("Profiling report written to " + report.getPath(), TextFormatting.GREEN)), report.getAbsolutePath()), player);
+            } catch(IOException e) {
+                CraftTweakerAPI.logThrowing("Could not write profiling report", e);
+                CommandUtilities.send(CommandUtilities.color("Could not write profiling report, check the log for details", TextFormatting.RED), player);
+            }
+            if(!ScriptProfiler.isEnabled()) {
+                CommandUtilities.send(CommandUtilities.color("The profiler is not running, use /ct profile start before reloading", TextFormatting.YELLOW), player);
+            }
             return 0;
         }));
     
-        CTCommands.registerCommand(CTCommands.playerCommand("format", "Checks the syntax of the scripts and formats them into another folder.", (player, stack) -> {
-            LoaderActions.getKnownLoaderNames().forEach(loader -> {
-                CommandUtilities.send(CommandUtilities.color("Loading and formatting scripts for loader '" + loader + "'", TextFormatting.YELLOW), player);
-                CraftTweakerAPI.loadScripts(new ScriptLoadingOptions().setLoaderName(loader).format());
-            });
-
+        CTCommands.registerCommand("profile", CTCommands.playerCommand("start", "Clears previous timings and starts profiling scripts, actions and event handlers", (player, stack) -> {
+            ScriptProfiler.start();
+            CommandUtilities.send(CommandUtilities.color("Profiler started, run /reload to profile scripts", TextFormatting.GREEN), player);
             return 0;
         }));
+    
+        CTCommands.registerCommand("profile", CTCommands.playerCommand("stop", "Stops profiling, recorded timings are kept until the next start", (player, stack) -> {
+            ScriptProfiler.stop();
+            CommandUtilities.send(CommandUtilities.color("Profiler stopped, use /ct profile to write the report", TextFormatting.GREEN), player);
+            return 0;
+        }));
+    }
+    
+    private static int checkScripts(PlayerEntity player, boolean format) {
+        final MinecraftServer server = player.getServer();
+        final Consumer<ITextComponent> sendOnServerThread = message -> {
+            if(server == null) {
+                CommandUtilities.send(message, player);
+            } else {
+                server.execute(() -> CommandUtilities.send(message, player));
+            }
+        };
+        
+        final Executor serverExecutor = server == null ? Runnable::run : server;
+        final CompletableFuture<File> check = ScriptChecker.start(format, message -> sendOnServerThread.accept(new StringTextComponent(CommandUtilities.color(message, TextFormatting.YELLOW))), serverExecutor);
+        if(check == null) {
+            CommandUtilities.send(CommandUtilities.color("Scripts are already being checked, please wait until that check is done", TextFormatting.RED), player);
+            return 0;
+        }
+        
+        check.whenComplete((report, throwable) -> {
+            if(throwable != null) {
+                CraftTweakerAPI.logThrowing("Error checking scripts", throwable);
+                sendOnServerThread.accept(new StringTextComponent(CommandUtilities.color("Error checking scripts, check the log for details", TextFormatting.RED)));
+            } else {
+                sendOnServerThread.accept(CommandUtilities.open(new StringTextComponent(CommandUtilities.color("Script diagnostics written to " + report.getPath(), TextFormatting.GREEN)), report.getAbsolutePath()));
+            }
+        });
+        return 0;
     }
 }
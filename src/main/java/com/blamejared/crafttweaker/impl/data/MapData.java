@@ -6,6 +6,7 @@ import com.blamejared.crafttweaker.api.data.NBTConverter;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.google.common.base.Strings;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.util.text.IFormattableTextComponent;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.StringTextComponent;
@@ -30,6 +31,10 @@ public class MapData implements IData {
     
     private final CompoundNBT internal;
     private final Set<String> boolDataKeys;
+    /**
+     * Wrappers returned by {@link #getAt(String)}, each valid as long as the compound still holds the same tag under its key.
+     */
+    private Map<String, CachedChild> children;
     
     public MapData(CompoundNBT internal) {
         
@@ -66,12 +71,7 @@ public class MapData implements IData {
     @ZenCodeType.Method
     public void putAll(Map<String, IData> map) {
         
-        map.forEach((s, iData) -> {
-            getInternal().put(s, iData.getInternal());
-            if(iData instanceof BoolData) {
-                boolDataKeys.add(s);
-            }
-        });
+        map.forEach(this::setAt);
     }
     
     /**
@@ -100,6 +100,8 @@ public class MapData implements IData {
     /**
      * Adds sets the value for the given key or creates a new entry if it did not exist before.
      *
+     * If you don't need the previous value, use setAt instead, which does not convert it.
+     *
      * @param key   The key to set the value for.
      * @param value The value to set.
      *
@@ -109,13 +111,41 @@ public class MapData implements IData {
      * @docParam value "Goodbye"
      */
     @ZenCodeType.Method
-    @ZenCodeType.Operator(ZenCodeType.OperatorType.MEMBERSETTER)
     public IData put(String key, IData value) {
         
+        return NBTConverter.convert(putRaw(key, value));
+    }
+    
+    /**
+     * Sets the value for the given key or creates a new entry if it did not exist before.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value "Goodbye"
+     */
+    @ZenCodeType.Method
+    @ZenCodeType.Operator(ZenCodeType.OperatorType.MEMBERSETTER)
+    public void setAt(String key, IData value) {
+        
+        putRaw(key, value);
+    }
+    
+    /**
+     * Sets the value for the given key, returning the previous tag without converting it.
+     */
+    public INBT putRaw(String key, IData value) {
+        
         if(value instanceof BoolData) {
             boolDataKeys.add(key);
+        } else {
+            boolDataKeys.remove(key);
         }
-        return NBTConverter.convert(getInternal().put(key, value.getInternal()));
+        if(children != null) {
+            children.remove(key);
+        }
+        return getInternal().put(key, value.getInternal());
     }
     
     /**
@@ -134,7 +164,21 @@ public class MapData implements IData {
         if(boolDataKeys.contains(key)) {
             return new BoolData(getInternal().getByte(key) == 1);
         }
-        return NBTConverter.convert(getInternal().get(key));
+        
+        final INBT tag = getInternal().get(key);
+        if(tag == null) {
+            return null;
+        }
+        if(children == null) {
+            children = new HashMap<>();
+        }
+        final CachedChild cached = children.get(key);
+        if(cached != null && cached.tag == tag) {
+            return cached.data;
+        }
+        final IData data = NBTConverter.convert(tag);
+        children.put(key, new CachedChild(tag, data));
+        return data;
     }
     
     /**
@@ -163,6 +207,9 @@ public class MapData implements IData {
     public void remove(String key) {
         
         boolDataKeys.remove(key);
+        if(children != null) {
+            children.remove(key);
+        }
         getInternal().remove(key);
     }
     
@@ -340,4 +387,17 @@ public class MapData implements IData {
         return sj.toString();
     }
     
+    private static final class CachedChild {
+        
+        private final INBT tag;
+        private final IData data;
+        
+        private CachedChild(INBT tag, IData data) {
+            
+            this.tag = tag;
+            this.data = data;
+        }
+        
+    }
+    
 }
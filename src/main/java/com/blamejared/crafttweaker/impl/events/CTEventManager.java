@@ -9,6 +9,11 @@ import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import org.openzen.zencode.java.ZenCodeType;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -22,6 +27,10 @@ import java.util.function.Consumer;
 @ZenCodeType.Name("crafttweaker.api.events.CTEventManager")
 public class CTEventManager {
     
+    private static final Map<EventPriority, Map<Class<?>, EventHandlerMultiplexer<?>>> MULTIPLEXERS = new EnumMap<>(EventPriority.class);
+    // Handlers unregistered by the undo of a reload, removed from their multiplexers in one swap each
+    private static final Map<EventHandlerMultiplexer<?>, List<EventHandlerWrapper<?>>> PENDING_REMOVALS = new HashMap<>();
+    
     /**
      * Registers a new Event listener.
      * @param typeOfT Internally used to determine the Event, invisible to scripts.
@@ -43,12 +52,13 @@ public class CTEventManager {
     @ZenCodeType.Method
     public static <T extends Event> void register(Class<T> typeOfT, Consumer<T> consumer) {
         CraftTweakerAPI.apply(new IUndoableAction() {
-            private final EventHandlerWrapper<T> eventHandler = new EventHandlerWrapper<T>(consumer);
+            private final EventHandlerWrapper<T> eventHandler = new EventHandlerWrapper<T>(typeOfT, consumer);
+            private final EventHandlerMultiplexer<T> multiplexer = getMultiplexer(EventPriority.NORMAL, typeOfT);
     
             @Override
             public void undo() {
         
-                MinecraftForge.EVENT_BUS.unregister(eventHandler);
+                stageRemoval(multiplexer, eventHandler);
             }
     
             @Override
@@ -59,8 +69,9 @@ public class CTEventManager {
             
             @Override
             public void apply() {
-                //Let's go completely safe and use the type
-                MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, typeOfT, eventHandler);
+                
+                finishRemovals();
+                multiplexer.add(eventHandler);
             }
             
             @Override
@@ -70,4 +81,43 @@ public class CTEventManager {
         });
     }
     
+    /**
+     * Removes the handlers that were unregistered since the last call from their multiplexers. Called before handlers
+     * are added again and once the run is finished, in case a reload doesn't register any handler.
+     */
+    public static synchronized void finishRemovals() {
+        
+        PENDING_REMOVALS.forEach(CTEventManager::removeAll);
+        PENDING_REMOVALS.clear();
+    }
+    
+    private static synchronized void stageRemoval(EventHandlerMultiplexer<?> multiplexer, EventHandlerWrapper<?> eventHandler) {
+        
+        // Deactivated right away, so the handler isn't called anymore until the multiplexer drops it
+        eventHandler.deactivate();
+        PENDING_REMOVALS.computeIfAbsent(multiplexer, ignored -> new ArrayList<>()).add(eventHandler);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> void removeAll(EventHandlerMultiplexer<?> multiplexer, List<EventHandlerWrapper<?>> handlers) {
+        
+        ((EventHandlerMultiplexer<T>) multiplexer).removeAll((List<EventHandlerWrapper<T>>) (List<?>) handlers);
+    }
+    
+    /**
+     * Gets the listener that dispatches the given event to all script handlers, registering it on the event bus on first use.
+     * The multiplexer stays registered across reloads, only its handlers are swapped.
+     */
+    @SuppressWarnings("unchecked")
+    private static synchronized <T extends Event> EventHandlerMultiplexer<T> getMultiplexer(EventPriority priority, Class<T> typeOfT) {
+        
+        return (EventHandlerMultiplexer<T>) MULTIPLEXERS.computeIfAbsent(priority, ignored -> new HashMap<>())
+                .computeIfAbsent(typeOfT, ignored -> {
+                    final EventHandlerMultiplexer<T> multiplexer = new EventHandlerMultiplexer<>();
+                    //Let's go completely safe and use the type
+                    MinecraftForge.EVENT_BUS.addListener(priority, false, typeOfT, multiplexer);
+                    return multiplexer;
+                });
+    }
+    
 }
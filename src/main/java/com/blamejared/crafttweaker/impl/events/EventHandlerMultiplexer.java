@@ -0,0 +1,100 @@
+package com.blamejared.crafttweaker.impl.events;
+
+import net.minecraftforge.eventbus.api.Event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * A single event bus listener that dispatches to all script handlers registered for one event class and priority.
+ *
+ * Handlers are kept in a copy-on-write array, so dispatching never locks. Adding or removing a handler swaps in a new
+ * array right away, removing many handlers at once only swaps once, see {@link #removeAll(Collection)}. Handlers that
+ * disable themselves while dispatching are dropped the next time the array is swapped.
+ */
+public final class EventHandlerMultiplexer<T extends Event> implements Consumer<T> {
+    
+    @SuppressWarnings("rawtypes")
+    private static final EventHandlerWrapper[] NO_HANDLERS = new EventHandlerWrapper[0];
+    
+    private volatile EventHandlerWrapper<T>[] handlers;
+    private volatile boolean dirty;
+    
+    public EventHandlerMultiplexer() {
+        
+        this.handlers = noHandlers();
+    }
+    
+    @Override
+    public void accept(T event) {
+        
+        for(EventHandlerWrapper<T> handler : handlers) {
+            // Mirrors the bus not passing canceled events to listeners registered with receiveCanceled = false
+            if(event.isCanceled()) {
+                return;
+            }
+            handler.accept(event);
+            if(!handler.isActive()) {
+                // The handler disabled itself after too many errors, the next swap drops it
+                dirty = true;
+            }
+        }
+    }
+    
+    public synchronized void add(EventHandlerWrapper<T> handler) {
+        
+        final EventHandlerWrapper<T>[] live = live(handlers);
+        final EventHandlerWrapper<T>[] newHandlers = Arrays.copyOf(live, live.length + 1);
+        newHandlers[live.length] = handler;
+        handlers = newHandlers;
+        dirty = false;
+    }
+    
+    public synchronized void remove(EventHandlerWrapper<T> handler) {
+        
+        // Deactivated first, so a dispatch that still iterates the old array skips it
+        handler.deactivate();
+        handlers = live(handlers);
+        dirty = false;
+    }
+    
+    /**
+     * Removes all given handlers with a single swap of the array, used when the handlers of a reload are unregistered.
+     * Once no handler is left, the shared empty array is installed.
+     */
+    public synchronized void removeAll(Collection<EventHandlerWrapper<T>> removed) {
+        
+        removed.forEach(EventHandlerWrapper::deactivate);
+        handlers = live(handlers);
+        dirty = false;
+    }
+    
+    public int size() {
+        
+        return handlers.length;
+    }
+    
+    /**
+     * Whether handlers disabled themselves since the array was last swapped.
+     */
+    public boolean isDirty() {
+        
+        return dirty;
+    }
+    
+    private EventHandlerWrapper<T>[] live(EventHandlerWrapper<T>[] handlers) {
+        
+        final EventHandlerWrapper<T>[] live = Arrays.stream(handlers)
+                .filter(EventHandlerWrapper::isActive)
+                .toArray(size -> Arrays.copyOf(handlers, size));
+        return live.length == 0 ? noHandlers() : live;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> EventHandlerWrapper<T>[] noHandlers() {
+        
+        return (EventHandlerWrapper<T>[]) NO_HANDLERS;
+    }
+    
+}
@@ -1,27 +1,71 @@
 package com.blamejared.crafttweaker.impl.events;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.impl.profiler.ScriptProfiler;
 import net.minecraftforge.eventbus.api.Event;
 
 import java.util.function.Consumer;
 
 public class EventHandlerWrapper<T extends Event> implements Consumer<T> {
     
+    /**
+     * Amount of consecutive errors after which a handler is disabled, so a broken script can't spam the log every tick.
+     */
+    public static final int MAX_CONSECUTIVE_FAILURES = 10;
+    
     public EventHandlerWrapper(Consumer<T> consumer) {
         
         this.consumer = consumer;
+        this.profilerName = consumer.getClass().getName();
+    }
+    
+    public EventHandlerWrapper(Class<T> eventType, Consumer<T> consumer) {
+        
+        this.consumer = consumer;
+        this.profilerName = eventType.getSimpleName() + " (" + consumer.getClass().getName() + ")";
     }
     
     private final Consumer<T> consumer;
+    private final String profilerName;
+    private int consecutiveFailures;
+    private volatile boolean active = true;
     
     @Override
     public void accept(T t) {
         
+        if(!active) {
+            return;
+        }
+        
+        final long start = ScriptProfiler.begin();
         try {
             consumer.accept(t);
+            if(consecutiveFailures != 0) {
+                consecutiveFailures = 0;
+            }
         } catch(Throwable throwable) {
             CraftTweakerAPI.logThrowing(throwable.getMessage(), throwable);
+            if(++consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                active = false;
+                CraftTweakerAPI.logError("Disabling event handler for %s after %s consecutive errors", t.getClass()
+                        .getSimpleName(), consecutiveFailures);
+            }
+        } finally {
+            ScriptProfiler.recordEventHandler(profilerName, start);
         }
     }
     
+    public boolean isActive() {
+        
+        return active;
+    }
+    
+    /**
+     * Stops this handler from receiving any further events.
+     */
+    public void deactivate() {
+        
+        this.active = false;
+    }
+    
 }
@@ -0,0 +1,160 @@
+package com.blamejared.crafttweaker.impl.game;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.annotations.ZenRegister;
+import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.common.base.Throwables;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.ParseResults;
+import com.mojang.brigadier.context.CommandContextBuilder;
+import com.mojang.brigadier.context.ParsedCommandNode;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.CommandSource;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextComponentUtils;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.CommandEvent;
+import org.openzen.zencode.java.ZenCodeType;
+
+import javax.annotation.Nullable;
+
+/**
+ * A command that was parsed once and can be executed many times, created by `server.parseCommand`.
+ *
+ * Parsing walks the whole command tree and is the expensive part of running a command, so it is only done once. Every
+ * execution reuses the parse results with its own command source. If the commands of the server were rebuilt since
+ * then, for example by a `/reload`, the command is parsed again on the next execution.
+ *
+ * The permissions of the executing source are checked on every execution, since players may only use the commands
+ * their permission level allows.
+ *
+ * @docParam this server.parseCommand("weather clear")
+ */
+@ZenRegister
+@ZenCodeType.Name("crafttweaker.api.server.MCParsedCommand")
+@Document("vanilla/api/game/MCParsedCommand")
+public class MCParsedCommand {
+    
+    private final MinecraftServer server;
+    private final String command;
+    private final boolean forPlayers;
+    private CommandDispatcher<CommandSource> dispatcher;
+    private ParseResults<CommandSource> parseResults;
+    
+    public MCParsedCommand(MinecraftServer server, String command, @Nullable PlayerEntity player) {
+        
+        this.server = server;
+        this.command = command.startsWith("/") ? command.substring(1) : command;
+        this.forPlayers = player != null;
+        parse(player == null ? server.getCommandSource() : player.getCommandSource());
+    }
+    
+    /**
+     * Gets the command, without the leading slash.
+     */
+    @ZenCodeType.Getter("command")
+    public String getCommand() {
+        
+        return command;
+    }
+    
+    /**
+     * Whether the command was parsed for players instead of the server.
+     */
+    @ZenCodeType.Getter("forPlayers")
+    public boolean isForPlayers() {
+        
+        return forPlayers;
+    }
+    
+    /**
+     * Runs the command as the server.
+     *
+     * Returns The success value of the command, or 0 if an exception occurred.
+     * <p>
+     * Note: Some commands' success value is 0
+     */
+    @ZenCodeType.Method
+    public int execute() {
+        
+        return execute(server.getCommandSource());
+    }
+    
+    /**
+     * Lets the given player run the command.
+     *
+     * Returns The success value of the command, or 0 if an exception occurred.
+     * <p>
+     * Note: Some commands' success value is 0
+     *
+     * @docParam player player
+     */
+    @ZenCodeType.Method
+    public int execute(PlayerEntity player) {
+        
+        return execute(player.getCommandSource());
+    }
+    
+    private void parse(CommandSource source) {
+        
+        dispatcher = server.getCommandManager().getDispatcher();
+        parseResults = dispatcher.parse(command, source);
+    }
+    
+    private int execute(CommandSource source) {
+        
+        if(dispatcher != server.getCommandManager().getDispatcher()) {
+            parse(source);
+        }
+        // Invalid commands and sources that can't use every part of the command get the regular error messages
+        if(parseResults.getReader().canRead() || !canUse(parseResults.getContext(), source)) {
+            return server.getCommandManager().handleCommand(source, command);
+        }
+        
+        final ParseResults<CommandSource> results = new ParseResults<>(parseResults.getContext()
+                .copy()
+                .withSource(source), parseResults.getReader(), parseResults.getExceptions());
+                
+        // Same as Commands#handleCommand, without parsing the command again
+        server.getProfiler().startSection(command);
+        try {
+            final CommandEvent event = new CommandEvent(results);
+            if(MinecraftForge.EVENT_BUS.post(event)) {
+                if(event.getException() != null) {
+                    Throwables.throwIfUnchecked(event.getException());
+                }
+                return 1;
+            }
+            return dispatcher.execute(event.getParseResults());
+        } catch(CommandException e) {
+            source.sendErrorMessage(e.getComponent());
+            return 0;
+        } catch(CommandSyntaxException e) {
+            source.sendErrorMessage(TextComponentUtils.toTextComponent(e.getRawMessage()));
+            return 0;
+        } catch(Exception e) {
+            CraftTweakerAPI.logThrowing("Error executing command '%s'", e, command);
+            source.sendErrorMessage(new StringTextComponent("An unexpected error occurred trying to execute that command"));
+            return 0;
+        } finally {
+            server.getProfiler().endSection();
+        }
+    }
+    
+    private static boolean canUse(@Nullable CommandContextBuilder<CommandSource> context, CommandSource source) {
+        
+        if(context == null) {
+            return true;
+        }
+        for(ParsedCommandNode<CommandSource> node : context.getNodes()) {
+            if(!node.getNode().canUse(source)) {
+                return false;
+            }
+        }
+        return canUse(context.getChild(), source);
+    }
+    
+}
@@ -0,0 +1,65 @@
+package com.blamejared.crafttweaker.impl.ingredients;
+
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.impl.item.MCItemStack;
+import com.blamejared.crafttweaker.impl.tag.MCTag;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A vanilla {@link Ingredient} that is backed by an item tag, as created by {@code Ingredient.fromTag}.
+ *
+ * Matching stacks are resolved once, after which matching is a lookup in the set of items of the tag.
+ */
+public class IIngredientTag extends IIngredientWrapped {
+    
+    private final MCTag<Item> tag;
+    private Set<Item> items;
+    private IItemStack[] stacks;
+    
+    public IIngredientTag(Ingredient ingredient, MCTag<Item> tag) {
+        super(ingredient, tag.getCommandString());
+        this.tag = tag;
+    }
+    
+    public MCTag<Item> getTag() {
+        return tag;
+    }
+    
+    @Override
+    public boolean matches(IItemStack stack, boolean ignoreDamage) {
+        if(ignoreDamage) {
+            return super.matches(stack, true);
+        }
+        // Same as Ingredient#test, which only compares the items of the matching stacks
+        final ItemStack internal = stack.getInternal();
+        return internal != null && !internal.isEmpty() && getItemSet().contains(internal.getItem());
+    }
+    
+    @Override
+    public IItemStack[] getItems() {
+        if(stacks == null) {
+            stacks = Arrays.stream(asVanillaIngredient().getMatchingStacks())
+                    .map(MCItemStack::new)
+                    .toArray(IItemStack[]::new);
+        }
+        return stacks.clone();
+    }
+    
+    private Set<Item> getItemSet() {
+        if(items == null) {
+            final Set<Item> set = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(ItemStack matchingStack : asVanillaIngredient().getMatchingStacks()) {
+                set.add(matchingStack.getItem());
+            }
+            items = set;
+        }
+        return items;
+    }
+}
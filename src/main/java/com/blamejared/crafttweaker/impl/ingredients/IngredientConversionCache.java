@@ -0,0 +1,78 @@
+package com.blamejared.crafttweaker.impl.ingredients;
+
+import com.blamejared.crafttweaker.api.item.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.impl.item.MCIngredientList;
+import com.blamejared.crafttweaker.impl.item.MCItemStack;
+import com.blamejared.crafttweaker.impl.tag.MCTag;
+import com.blamejared.crafttweaker.impl.tag.manager.TagManagerItem;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.tags.TagCollectionManager;
+import net.minecraft.util.ResourceLocation;
+
+import java.util.Arrays;
+
+/**
+ * Converts vanilla {@link Ingredient}s to {@link IIngredient}s, see {@link IIngredient#fromIngredient(Ingredient)}.
+ *
+ * Conversions of item ingredients are memoized per ingredient instance. Vanilla resolves the matching stacks of an
+ * ingredient only once, so a conversion can't become stale while the ingredient is alive.
+ *
+ * Tag ingredients are not memoized, since their wrapper references the vanilla ingredient and would keep it alive.
+ * Finding their tag is a lookup in the current tag collection, so wrapping them again is cheap.
+ */
+public final class IngredientConversionCache {
+    
+    // Weak keys compare by identity, the cached values never reference their key
+    private static final Cache<Ingredient, IIngredient> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private IngredientConversionCache() {}
+    
+    public static IIngredient fromIngredient(Ingredient ingredient) {
+        final IIngredient cached = CACHE.getIfPresent(ingredient);
+        if(cached != null) {
+            return cached;
+        }
+        
+        final ResourceLocation tagId = getTagId(ingredient);
+        if(tagId != null) {
+            return new IIngredientTag(ingredient, new MCTag<>(tagId, TagManagerItem.INSTANCE));
+        }
+        
+        final IIngredient converted = convert(ingredient);
+        CACHE.put(ingredient, converted);
+        return converted;
+    }
+    
+    private static IIngredient convert(Ingredient ingredient) {
+        if(ingredient.hasNoMatchingItems()) {
+            return new MCItemStack(ItemStack.EMPTY);
+        }
+        
+        final ItemStack[] matchingStacks = ingredient.getMatchingStacks();
+        if(matchingStacks.length == 1) {
+            return new MCItemStack(matchingStacks[0]);
+        }
+        return new MCIngredientList(Arrays.stream(matchingStacks).map(MCItemStack::new).toArray(IItemStack[]::new));
+    }
+    
+    /**
+     * Gets the ID of the tag the given ingredient was created from, or null if it wasn't created from exactly one tag.
+     */
+    private static ResourceLocation getTagId(Ingredient ingredient) {
+        // Subclasses (e.g. Forge's NBT ingredients) may be backed by a tag next to other, additional checks
+        if(ingredient.getClass() != Ingredient.class) {
+            return null;
+        }
+        
+        final Ingredient.IItemList[] acceptedItems = ingredient.acceptedItems;
+        if(acceptedItems.length != 1 || !(acceptedItems[0] instanceof Ingredient.TagList)) {
+            return null;
+        }
+        // Null for tags that are not part of the current tag collection, which vanilla refuses to serialize as well
+        return TagCollectionManager.getManager().getItemTags().getDirectIdFromTag(((Ingredient.TagList) acceptedItems[0]).tag);
+    }
+}
@@ -0,0 +1,171 @@
+package com.blamejared.crafttweaker.impl.ingredients;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.item.IIngredient;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionAnyDamage;
+import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionDamaged;
+import com.blamejared.crafttweaker.impl.item.MCIngredientList;
+import com.blamejared.crafttweaker.impl.item.MCItemStack;
+import com.blamejared.crafttweaker.impl.item.conditions.MCIngredientConditioned;
+import com.google.common.collect.MapMaker;
+import net.minecraft.item.crafting.Ingredient;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Shares structurally equal immutable ingredients created during a script run, enabled by the {@code #intern}
+ * preprocessor.
+ *
+ * Item brackets, {@code a | b} lists and damage conditions are canonicalized, so recipes built in loops reference one
+ * instance instead of thousands of equal ones. Canonical instances also share their vanilla ingredient, including
+ * the matching stacks vanilla caches on it. Shared stacks only hand out copies of their tag, see
+ * {@link MCItemStack#getTag()}. The table only lives for the duration of a script run, it is cleared and
+ * interning is switched off again once the scripts of the run have finished. Instances that were shared stay marked as
+ * such for as long as they are alive, so they are never modified afterwards either.
+ */
+public final class IngredientInterner {
+    
+    private static final Map<IIngredient, IIngredient> CANONICAL = new HashMap<>();
+    // Keys are the canonical instances, values their vanilla ingredient once it was requested
+    private static final Map<IIngredient, Ingredient> VANILLA = new IdentityHashMap<>();
+    // Weak keys compare by identity, so this doesn't keep the instances of finished runs alive
+    private static final Set<IIngredient> INTERNED = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    private static ScriptRun internRun;
+    
+    private IngredientInterner() {}
+    
+    /**
+     * Gets the canonical instance that is equal to the given ingredient, if interning is enabled for the current run.
+     *
+     * @param ingredient The freshly created ingredient.
+     *
+     * @return The canonical instance, or the given ingredient if it can't be shared.
+     */
+    public static synchronized <T extends IIngredient> T intern(T ingredient) {
+        
+        if(!CraftTweakerAPI.INTERN_INGREDIENTS || !isInternable(ingredient)) {
+            return ingredient;
+        }
+        
+        // Runs that are prepared in parallel must not reset the table of the executing run
+        final ScriptRun run = CraftTweakerAPI.getCurrentRun();
+        if(!run.isRunning()) {
+            return ingredient;
+        }
+        return internFor(run, ingredient);
+    }
+    
+    /**
+     * Interns the given ingredient into the table of the given run, package-private so it can be tested without
+     * running scripts.
+     */
+    @SuppressWarnings("unchecked")
+    static synchronized <T extends IIngredient> T internFor(@Nullable ScriptRun run, T ingredient) {
+        
+        if(run != internRun) {
+            CANONICAL.clear();
+            VANILLA.clear();
+            internRun = run;
+        }
+        
+        final IIngredient canonical = CANONICAL.get(ingredient);
+        if(canonical != null) {
+            return (T) canonical;
+        }
+        CANONICAL.put(ingredient, ingredient);
+        VANILLA.put(ingredient, null);
+        INTERNED.add(ingredient);
+        return ingredient;
+    }
+    
+    /**
+     * Clears the table of the given run and switches interning off, so code that runs later on, like event handlers,
+     * doesn't intern into a table that is never cleared.
+     */
+    public static synchronized void finishRun(ScriptRun run) {
+        
+        CraftTweakerAPI.INTERN_INGREDIENTS = false;
+        if(run == internRun) {
+            CANONICAL.clear();
+            VANILLA.clear();
+            internRun = null;
+        }
+    }
+    
+    /**
+     * Whether the given instance is shared, in which case it must never be modified.
+     */
+    public static boolean isInterned(IIngredient ingredient) {
+        
+        return INTERNED.contains(ingredient);
+    }
+    
+    /**
+     * Gets the vanilla ingredient of the given ingredient, which is only created once for canonical instances.
+     *
+     * @param ingredient The ingredient to convert.
+     * @param factory    Creates a new vanilla ingredient for the ingredient.
+     *
+     * @return The shared vanilla ingredient for canonical instances, a new one otherwise.
+     */
+    public static Ingredient asVanillaIngredient(IIngredient ingredient, Supplier<Ingredient> factory) {
+        
+        if(!CraftTweakerAPI.INTERN_INGREDIENTS) {
+            return factory.get();
+        }
+        
+        synchronized(IngredientInterner.class) {
+            if(!VANILLA.containsKey(ingredient)) {
+                return factory.get();
+            }
+            final Ingredient vanilla = VANILLA.get(ingredient);
+            if(vanilla != null) {
+                return vanilla;
+            }
+        }
+        
+        // Created outside of the lock, lists convert their children through here as well
+        final Ingredient created = factory.get();
+        synchronized(IngredientInterner.class) {
+            final Ingredient vanilla = VANILLA.get(ingredient);
+            if(vanilla != null) {
+                return vanilla;
+            }
+            if(VANILLA.containsKey(ingredient)) {
+                VANILLA.put(ingredient, created);
+            }
+            return created;
+        }
+    }
+    
+    private static boolean isInternable(IIngredient ingredient) {
+        
+        final Class<?> type = ingredient.getClass();
+        if(type == MCItemStack.class) {
+            return true;
+        }
+        if(type == MCIngredientList.class) {
+            for(IIngredient child : ((MCIngredientList) ingredient).getIngredients()) {
+                if(!isInternable(child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if(type == MCIngredientConditioned.class) {
+            final MCIngredientConditioned<?> conditioned = (MCIngredientConditioned<?>) ingredient;
+            final Class<?> conditionType = conditioned.getCondition().getClass();
+            return (conditionType == ConditionAnyDamage.class || conditionType == ConditionDamaged.class) && isInternable(conditioned
+                    .getBaseIngredient());
+        }
+        return false;
+    }
+    
+}
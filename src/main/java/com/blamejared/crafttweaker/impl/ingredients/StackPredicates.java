@@ -0,0 +1,105 @@
+package com.blamejared.crafttweaker.impl.ingredients;
+
+import com.blamejared.crafttweaker.api.item.IIngredient;
+import com.blamejared.crafttweaker.impl.item.MCIngredientList;
+import com.blamejared.crafttweaker.impl.item.MCItemStack;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+/**
+ * Tests raw stacks against ingredients made of plain items, without wrapping every tested stack in an
+ * {@link com.blamejared.crafttweaker.api.item.IItemStack}.
+ *
+ * A plain item is an {@link MCItemStack} without NBT, or one whose only NBT is the damage if damage is ignored. The
+ * predicates behave exactly like {@link IIngredient#matches(com.blamejared.crafttweaker.api.item.IItemStack, boolean)}
+ * for those; every other ingredient has to be matched through the regular path.
+ */
+public final class StackPredicates {
+    
+    private StackPredicates() {}
+    
+    /**
+     * Creates a predicate that tests raw stacks like {@code ingredient.matches(stack, ignoreDamage)}.
+     *
+     * @return The predicate, or null if the ingredient isn't made of plain items.
+     */
+    @Nullable
+    public static Predicate<ItemStack> of(IIngredient ingredient, boolean ignoreDamage) {
+        
+        if(ingredient.getClass() == MCItemStack.class) {
+            return ofStack(((MCItemStack) ingredient).getInternal(), ignoreDamage);
+        }
+        if(ingredient.getClass() == MCIngredientList.class) {
+            final IIngredient[] children = ((MCIngredientList) ingredient).getIngredients();
+            final Predicate<ItemStack>[] predicates = newArray(children.length);
+            for(int i = 0; i < children.length; i++) {
+                predicates[i] = of(children[i], ignoreDamage);
+                if(predicates[i] == null) {
+                    return null;
+                }
+            }
+            return stack -> {
+                for(Predicate<ItemStack> predicate : predicates) {
+                    if(predicate.test(stack)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        return null;
+    }
+    
+    /**
+     * Whether the ingredient matches every stack of its items, no matter the count, damage or NBT of the stack. Vanilla
+     * may then match it through {@link net.minecraft.item.crafting.RecipeItemHelper}, which only compares items.
+     */
+    public static boolean matchesByItemOnly(IIngredient ingredient, boolean ignoreDamage) {
+        
+        if(ingredient.getClass() == MCItemStack.class) {
+            final ItemStack internal = ((MCItemStack) ingredient).getInternal();
+            // Damageable stacks always carry their damage, so requiring NBT doesn't exclude any of them
+            return internal.getCount() == 1 && isPlain(internal, ignoreDamage) && (!internal.hasTag() || internal.isDamageable());
+        }
+        if(ingredient.getClass() == MCIngredientList.class) {
+            for(IIngredient child : ((MCIngredientList) ingredient).getIngredients()) {
+                if(!matchesByItemOnly(child, ignoreDamage)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+    
+    @Nullable
+    private static Predicate<ItemStack> ofStack(ItemStack internal, boolean ignoreDamage) {
+        
+        if(internal.isEmpty() || !isPlain(internal, ignoreDamage)) {
+            return null;
+        }
+        
+        final Item item = internal.getItem();
+        final int count = internal.getCount();
+        // Only the ignored damage is left of the NBT, which still requires the stack to have some
+        final boolean requiresTag = internal.hasTag();
+        return stack -> stack.getItem() == item && stack.getCount() >= count && (!requiresTag || stack.hasTag());
+    }
+    
+    private static boolean isPlain(ItemStack internal, boolean ignoreDamage) {
+        
+        final CompoundNBT tag = internal.getTag();
+        return tag == null || ignoreDamage && tag.size() == 1 && tag.contains("Damage");
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Predicate<ItemStack>[] newArray(int length) {
+        
+        return (Predicate<ItemStack>[]) new Predicate[length];
+    }
+    
+}
@@ -5,14 +5,24 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientCondition;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientConditionSerializer;
 import com.blamejared.crafttweaker.impl.ingredients.conditions.serializer.ConditionAnyDamagedSerializer;
+import net.minecraft.item.ItemStack;
+
+import java.util.function.Predicate;
 
 public class ConditionAnyDamage<T extends IIngredient> implements IIngredientCondition<T> {
     
+    private static final Predicate<ItemStack> ANY = stack -> true;
+    
     @Override
     public boolean matches(IItemStack stack) {
         return true;
     }
     
+    @Override
+    public Predicate<ItemStack> asStackPredicate() {
+        return ANY;
+    }
+    
     @Override
     public boolean ignoresDamage() {
         return true;
@@ -28,5 +38,14 @@ public class ConditionAnyDamage<T extends IIngredient> implements IIngredientCon
         return ConditionAnyDamagedSerializer.INSTANCE;
     }
     
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+    
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
     
 }
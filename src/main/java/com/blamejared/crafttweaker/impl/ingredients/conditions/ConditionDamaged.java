@@ -5,15 +5,26 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientCondition;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientConditionSerializer;
 import com.blamejared.crafttweaker.impl.ingredients.conditions.serializer.ConditionDamagedSerializer;
+import net.minecraft.item.ItemStack;
+
+import java.util.function.Predicate;
 
 public class ConditionDamaged<T extends IIngredient> implements IIngredientCondition<T> {
     
+    private static final Predicate<ItemStack> DAMAGED = stack -> stack.getDamage() > 0;
+    
     @Override
     public boolean matches(IItemStack stack) {
         
         return stack.getDamage() > 0;
     }
     
+    @Override
+    public Predicate<ItemStack> asStackPredicate() {
+        
+        return DAMAGED;
+    }
+    
     @Override
     public boolean ignoresDamage() {
         
@@ -32,5 +43,16 @@ public class ConditionDamaged<T extends IIngredient> implements IIngredientCondi
         return ConditionDamagedSerializer.INSTANCE;
     }
     
+    @Override
+    public boolean equals(Object o) {
+        
+        return this == o || o != null && getClass() == o.getClass();
+    }
+    
+    @Override
+    public int hashCode() {
+        
+        return getClass().hashCode();
+    }
     
 }
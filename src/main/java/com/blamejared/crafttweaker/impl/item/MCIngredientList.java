@@ -4,6 +4,7 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.item.IngredientList;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
@@ -40,9 +41,9 @@ public class MCIngredientList implements IIngredient {
     @Override
     public Ingredient asVanillaIngredient() {
     
-        return new IngredientList(Arrays.stream(ingredients)
+        return IngredientInterner.asVanillaIngredient(this, () -> new IngredientList(Arrays.stream(ingredients)
                 .map(IIngredient::asVanillaIngredient)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList())));
     }
     
     @Override
@@ -5,11 +5,14 @@ import com.blamejared.crafttweaker.api.data.NBTConverter;
 import com.blamejared.crafttweaker.api.ingredient.PartialNBTIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.impl.data.MapData;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import net.minecraft.entity.ai.attributes.Attribute;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.text.StringTextComponent;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -21,6 +24,8 @@ public class MCItemStack implements IItemStack {
     
     public static Supplier<MCItemStack> EMPTY = () -> new MCItemStack(ItemStack.EMPTY);
     private final ItemStack internal;
+    private HashCache hashCache;
+    private volatile boolean sharedMutably;
     
     public MCItemStack(ItemStack internal) {
         
@@ -149,9 +154,43 @@ public class MCItemStack implements IItemStack {
     @Override
     public IItemStack mutable() {
         
+        // Interned stacks are shared between scripts, so changes must not leak into the other users
+        if(IngredientInterner.isInterned(this)) {
+            return new MCItemStackMutable(getImmutableInternal());
+        }
+        markSharedMutably();
         return new MCItemStackMutable(getInternal());
     }
     
+    @Override
+    public IData getTag() {
+        
+        // Interned stacks are shared, edits of their tag must neither leak into the other users nor change their hash
+        if(IngredientInterner.isInterned(this)) {
+            return NBTConverter.convert(getImmutableInternal().getTag());
+        }
+        // The data wraps the live tag, so it may be edited in place
+        markSharedMutably();
+        return IItemStack.super.getTag();
+    }
+    
+    @Override
+    public IData getOrCreateTag() {
+        
+        if(IngredientInterner.isInterned(this)) {
+            final CompoundNBT tag = getImmutableInternal().getTag();
+            return NBTConverter.convert(tag == null ? new CompoundNBT() : tag);
+        }
+        markSharedMutably();
+        return IItemStack.super.getOrCreateTag();
+    }
+    
+    private void markSharedMutably() {
+        
+        sharedMutably = true;
+        hashCache = null;
+    }
+    
     @Override
     public IItemStack asImmutable() {
         
@@ -167,6 +206,11 @@ public class MCItemStack implements IItemStack {
     @Override
     public Ingredient asVanillaIngredient() {
         
+        return IngredientInterner.asVanillaIngredient(this, this::createVanillaIngredient);
+    }
+    
+    private Ingredient createVanillaIngredient() {
+        
         if(getInternal().isEmpty()) {
             return Ingredient.EMPTY;
         }
@@ -204,6 +248,10 @@ public class MCItemStack implements IItemStack {
         final ItemStack thatStack = ((MCItemStack) o).getInternal();
         final ItemStack thisStack = getInternal();
         
+        if(thisStack == thatStack) {
+            return true;
+        }
+        
         if(thisStack.isEmpty()) {
             return thatStack.isEmpty();
         }
@@ -223,10 +271,49 @@ public class MCItemStack implements IItemStack {
         return thisStack.areCapsCompatible(thatStack);
     }
     
+    /**
+     * The hash is cached, since hashing a stack hashes its whole tag. The cache is dropped if the count, item or tag
+     * instance of the wrapped stack changes. Once the stack was handed out through {@link #mutable()} or its tag through
+     * {@link #getTag()} or {@link #getOrCreateTag()}, the tag may be edited in place, so the hash is no longer cached at
+     * all.
+     */
     @Override
     public int hashCode() {
         
-        return Objects.hash(getInternal().getCount(), getInternal().getItem(), getInternal().getTag());
+        final ItemStack stack = getInternal();
+        if(sharedMutably) {
+            return new HashCache(stack).hash;
+        }
+        final HashCache cache = this.hashCache;
+        if(cache != null && cache.isValidFor(stack)) {
+            return cache.hash;
+        }
+        
+        final HashCache newCache = new HashCache(stack);
+        this.hashCache = newCache;
+        return newCache.hash;
+    }
+    
+    private static final class HashCache {
+        
+        private final int count;
+        private final Item item;
+        private final CompoundNBT tag;
+        private final int hash;
+        
+        private HashCache(ItemStack stack) {
+            
+            this.count = stack.getCount();
+            this.item = stack.getItem();
+            this.tag = stack.getTag();
+            this.hash = Objects.hash(count, item, tag);
+        }
+        
+        private boolean isValidFor(ItemStack stack) {
+            
+            return count == stack.getCount() && item == stack.getItem() && tag == stack.getTag();
+        }
+        
     }
     
 }
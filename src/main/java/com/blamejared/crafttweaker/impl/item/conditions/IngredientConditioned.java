@@ -3,29 +3,53 @@ package com.blamejared.crafttweaker.impl.item.conditions;
 import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IngredientVanillaPlus;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientCondition;
+import com.blamejared.crafttweaker.impl.ingredients.StackPredicates;
+import com.blamejared.crafttweaker.impl.ingredients.conditions.ConditionAnyDamage;
 import com.blamejared.crafttweaker.impl.item.MCItemStackMutable;
 import com.google.gson.JsonElement;
 import mcp.MethodsReturnNonnullByDefault;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nullable;
+import java.util.function.Predicate;
 
 //TODO - BREAKING (potentially): Move this to com.blamejared.crafttweaker.api.ingredient
 @MethodsReturnNonnullByDefault
 public class IngredientConditioned<I extends IIngredient, T extends MCIngredientConditioned<I>> extends IngredientVanillaPlus {
     
     private final T crtIngredient;
+    // Tests the stacks directly if both the base and the condition support it, null otherwise
+    private final Predicate<ItemStack> stackPredicate;
     
     public IngredientConditioned(T crtIngredient) {
         
         super(crtIngredient);
         this.crtIngredient = crtIngredient;
+        this.stackPredicate = createStackPredicate(crtIngredient);
+    }
+    
+    @Nullable
+    private static Predicate<ItemStack> createStackPredicate(MCIngredientConditioned<?> crtIngredient) {
+        
+        final IIngredientCondition<?> condition = crtIngredient.getCondition();
+        final Predicate<ItemStack> conditionPredicate = condition.asStackPredicate();
+        if(conditionPredicate == null) {
+            return null;
+        }
+        final Predicate<ItemStack> basePredicate = StackPredicates.of(crtIngredient.getBaseIngredient(), condition.ignoresDamage());
+        return basePredicate == null ? null : basePredicate.and(conditionPredicate);
     }
     
     @Override
     public boolean test(@Nullable ItemStack stack) {
         
-        return stack != null && crtIngredient.matches(new MCItemStackMutable(stack), true);
+        if(stack == null) {
+            return false;
+        }
+        if(stackPredicate != null) {
+            return stackPredicate.test(stack);
+        }
+        return crtIngredient.matches(new MCItemStackMutable(stack), true);
     }
     
     @Override
@@ -35,10 +59,15 @@ public class IngredientConditioned<I extends IIngredient, T extends MCIngredient
     }
     
     
+    /**
+     * Any damage on plain items only compares the items, which vanilla can do by itself. Damaged stacks can't be
+     * told apart like that, so every other condition still needs {@link #test(ItemStack)}.
+     */
     @Override
     public boolean isSimple() {
         
-        return false;
+        return getCondition().getClass() == ConditionAnyDamage.class && StackPredicates.matchesByItemOnly(crtIngredient
+                .getBaseIngredient(), true);
     }
     
     @Override
@@ -6,6 +6,7 @@ import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.item.conditions.IIngredientCondition;
 import com.blamejared.crafttweaker.impl.data.MapData;
+import com.blamejared.crafttweaker.impl.ingredients.IngredientInterner;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
@@ -25,7 +26,7 @@ public class MCIngredientConditioned<T extends IIngredient> implements IIngredie
     
     @Override
     public Ingredient asVanillaIngredient() {
-        return new IngredientConditioned<>(this);
+        return IngredientInterner.asVanillaIngredient(this, () -> new IngredientConditioned<>(this));
     }
     
     @ZenCodeType.Getter("condition")
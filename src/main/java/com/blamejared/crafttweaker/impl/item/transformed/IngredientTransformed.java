@@ -3,19 +3,36 @@ package com.blamejared.crafttweaker.impl.item.transformed;
 import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IngredientVanillaPlus;
 import com.blamejared.crafttweaker.api.item.transformed.IIngredientTransformer;
+import com.blamejared.crafttweaker.impl.ingredients.StackPredicates;
 import com.google.gson.JsonElement;
 import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
 
 //TODO - BREAKING (potentially): Move this to com.blamejared.crafttweaker.api.ingredient
 @MethodsReturnNonnullByDefault
 public class IngredientTransformed<I extends IIngredient, T extends MCIngredientTransformed<I>> extends IngredientVanillaPlus {
     
     private final T crtIngredient;
+    // Transformers only change the remaining item, so matching is up to the base alone
+    private final Predicate<ItemStack> stackPredicate;
     
     public IngredientTransformed(T crtIngredient) {
         
         super(crtIngredient);
         this.crtIngredient = crtIngredient;
+        this.stackPredicate = StackPredicates.of(crtIngredient.getBaseIngredient(), false);
+    }
+    
+    @Override
+    public boolean test(@Nullable ItemStack stack) {
+        
+        if(stackPredicate != null) {
+            return stack != null && stackPredicate.test(stack);
+        }
+        return super.test(stack);
     }
     
     @Override
@@ -27,7 +44,7 @@ public class IngredientTransformed<I extends IIngredient, T extends MCIngredient
     @Override
     public boolean isSimple() {
         
-        return false;
+        return StackPredicates.matchesByItemOnly(crtIngredient.getBaseIngredient(), false);
     }
     
     @Override
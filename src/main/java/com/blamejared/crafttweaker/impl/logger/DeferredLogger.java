@@ -0,0 +1,84 @@
+package com.blamejared.crafttweaker.impl.logger;
+
+import com.blamejared.crafttweaker.api.logger.ILogger;
+import com.blamejared.crafttweaker.api.logger.LogLevel;
+import org.openzen.zencode.shared.CompileException;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.validator.ValidationLogEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps everything that is logged until it's either replayed to another logger or dropped.
+ *
+ * Used for script runs that are only attempted, so their problems don't show up if the attempt is discarded.
+ */
+public class DeferredLogger implements ILogger {
+    
+    private final ILogger delegate;
+    private final List<Consumer<ILogger>> entries = new ArrayList<>();
+    
+    public DeferredLogger(ILogger delegate) {
+        
+        this.delegate = delegate;
+    }
+    
+    /**
+     * Logs everything that was kept to the delegate and forgets about it.
+     */
+    public synchronized void replay() {
+        
+        entries.forEach(entry -> entry.accept(delegate));
+        entries.clear();
+    }
+    
+    private synchronized void defer(Consumer<ILogger> entry) {
+        
+        entries.add(entry);
+    }
+    
+    @Override
+    public void setLogLevel(LogLevel logLevel) {
+        
+        delegate.setLogLevel(logLevel);
+    }
+    
+    @Override
+    public LogLevel getLogLevel() {
+        
+        return delegate.getLogLevel();
+    }
+    
+    @Override
+    public void log(LogLevel level, String message, boolean prefix) {
+        
+        defer(logger -> logger.log(level, message, prefix));
+    }
+    
+    @Override
+    public void logCompileException(CompileException exception) {
+        
+        defer(logger -> logger.logCompileException(exception));
+    }
+    
+    @Override
+    public void logSourceFile(SourceFile file) {
+        
+        defer(logger -> logger.logSourceFile(file));
+    }
+    
+    @Override
+    public void logValidationError(ValidationLogEntry errorEntry) {
+        
+        defer(logger -> logger.logValidationError(errorEntry));
+    }
+    
+    @Override
+    public void logValidationWarning(ValidationLogEntry warningEntry) {
+        
+        defer(logger -> logger.logValidationWarning(warningEntry));
+    }
+    
+}
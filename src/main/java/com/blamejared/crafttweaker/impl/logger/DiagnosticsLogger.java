@@ -0,0 +1,144 @@
+package com.blamejared.crafttweaker.impl.logger;
+
+import com.blamejared.crafttweaker.api.logger.ILogger;
+import com.blamejared.crafttweaker.api.logger.LogLevel;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.CompileException;
+import org.openzen.zenscript.validator.ValidationLogEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Forwards everything to another logger and keeps all warnings and errors as diagnostics.
+ *
+ * Used by syntax checks, so the problems of the scripts can be written to a machine readable file.
+ */
+public class DiagnosticsLogger implements ILogger {
+    
+    private final ILogger delegate;
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    
+    public DiagnosticsLogger(ILogger delegate) {
+        
+        this.delegate = delegate;
+    }
+    
+    public synchronized List<Diagnostic> getDiagnostics() {
+        
+        return new ArrayList<>(diagnostics);
+    }
+    
+    public synchronized JsonArray toJson() {
+        
+        final JsonArray array = new JsonArray();
+        diagnostics.forEach(diagnostic -> array.add(diagnostic.toJson()));
+        return array;
+    }
+    
+    private synchronized void record(CodePosition position, LogLevel level, String message) {
+        
+        diagnostics.add(new Diagnostic(position, level, message));
+    }
+    
+    @Override
+    public void setLogLevel(LogLevel logLevel) {
+        
+        delegate.setLogLevel(logLevel);
+    }
+    
+    @Override
+    public LogLevel getLogLevel() {
+        
+        return delegate.getLogLevel();
+    }
+    
+    @Override
+    public void log(LogLevel level, String message, boolean prefix) {
+        
+        if(level == LogLevel.ERROR || level == LogLevel.WARNING) {
+            record(null, level, message);
+        }
+        delegate.log(level, message, prefix);
+    }
+    
+    @Override
+    public void logCompileException(CompileException exception) {
+        
+        record(exception.position, LogLevel.ERROR, exception.getMessage());
+        delegate.logCompileException(exception);
+    }
+    
+    @Override
+    public void logValidationError(ValidationLogEntry errorEntry) {
+        
+        record(errorEntry.position, LogLevel.ERROR, errorEntry.message);
+        delegate.logValidationError(errorEntry);
+    }
+    
+    @Override
+    public void logValidationWarning(ValidationLogEntry warningEntry) {
+        
+        record(warningEntry.position, LogLevel.WARNING, warningEntry.message);
+        delegate.logValidationWarning(warningEntry);
+    }
+    
+    public static final class Diagnostic {
+        
+        private final String file;
+        private final int line;
+        private final int column;
+        private final LogLevel severity;
+        private final String message;
+        
+        private Diagnostic(CodePosition position, LogLevel severity, String message) {
+            
+            final boolean known = position != null && position != CodePosition.UNKNOWN;
+            this.file = known ? position.getFilename() : null;
+            this.line = known ? position.fromLine : 0;
+            this.column = known ? position.getFromLineOffset() : 0;
+            this.severity = severity;
+            this.message = message;
+        }
+        
+        public String getFile() {
+            
+            return file;
+        }
+        
+        public int getLine() {
+            
+            return line;
+        }
+        
+        public int getColumn() {
+            
+            return column;
+        }
+        
+        public LogLevel getSeverity() {
+            
+            return severity;
+        }
+        
+        public String getMessage() {
+            
+            return message;
+        }
+        
+        JsonObject toJson() {
+            
+            final JsonObject object = new JsonObject();
+            object.addProperty("file", file);
+            object.addProperty("line", line);
+            object.addProperty("column", column);
+            object.addProperty("severity", severity.name().toLowerCase(Locale.ENGLISH));
+            object.addProperty("message", message);
+            return object;
+        }
+    }
+    
+}
@@ -1,10 +1,14 @@
 package com.blamejared.crafttweaker.impl.logger;
 
+import com.blamejared.crafttweaker.api.actions.ActionDescription;
 import com.blamejared.crafttweaker.api.logger.*;
 import net.minecraft.entity.player.PlayerEntity;
 
 import java.util.*;
 
+/**
+ * Logs to all sub loggers. Logging is synchronized, since syntax checks log from a background thread.
+ */
 public class GroupLogger implements ILogger {
     
     private final Map<PlayerEntity, PlayerLogger> playerLogs = new HashMap<>();
@@ -13,13 +17,13 @@ public class GroupLogger implements ILogger {
     private final List<LogMessage> previousMessages = new ArrayList<>();
     
     
-    public void addPlayerLogger(PlayerEntity player) {
+    public synchronized void addPlayerLogger(PlayerEntity player) {
         
         PlayerLogger logger = playerLogs.compute(player, (playerEntity, playerLogger) -> new PlayerLogger(playerEntity));
         addLogger(logger);
     }
     
-    public void removePlayerLogger(PlayerEntity player) {
+    public synchronized void removePlayerLogger(PlayerEntity player) {
         
         PlayerLogger remove = playerLogs.remove(player);
         if(remove != null) {
@@ -28,13 +32,13 @@ public class GroupLogger implements ILogger {
     }
     
     
-    public void addLogger(ILogger logger) {
+    public synchronized void addLogger(ILogger logger) {
         
         this.subLoggers.add(logger);
-        previousMessages.forEach(logMessage -> logger.log(logMessage.level, logMessage.message, logMessage.prefix));
+        previousMessages.forEach(logMessage -> logMessage.logTo(logger));
     }
     
-    public void removeLogger(ILogger logger) {
+    public synchronized void removeLogger(ILogger logger) {
         
         this.subLoggers.remove(logger);
     }
@@ -64,7 +68,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void log(LogLevel level, String message, boolean prefix) {
+    public synchronized void log(LogLevel level, String message, boolean prefix) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.log(level, message, prefix);
@@ -73,7 +77,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void log(LogLevel level, String message) {
+    public synchronized void log(LogLevel level, String message) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.log(level, message);
@@ -82,7 +86,19 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void info(String message) {
+    public synchronized void log(LogLevel level, ActionDescription description) {
+        
+        // Rendered once for all loggers before the action is applied, only the text is kept
+        if(getLogLevel().canLog(level)) {
+            final String message = description.render();
+            if(message != null && !message.isEmpty()) {
+                log(level, message);
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void info(String message) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.info(message);
@@ -91,7 +107,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void debug(String message) {
+    public synchronized void debug(String message) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.debug(message);
@@ -100,7 +116,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void warning(String message) {
+    public synchronized void warning(String message) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.warning(message);
@@ -109,7 +125,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void error(String message) {
+    public synchronized void error(String message) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.error(message);
@@ -118,7 +134,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void throwingWarn(String message, Throwable throwable) {
+    public synchronized void throwingWarn(String message, Throwable throwable) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.throwingWarn(message, throwable);
@@ -127,7 +143,7 @@ public class GroupLogger implements ILogger {
     }
     
     @Override
-    public void throwingErr(String message, Throwable throwable) {
+    public synchronized void throwingErr(String message, Throwable throwable) {
         
         for(ILogger logger : getSubLoggers()) {
             logger.throwingErr(message, throwable);
@@ -154,6 +170,11 @@ public class GroupLogger implements ILogger {
             return message;
         }
         
+        public void logTo(ILogger logger) {
+            
+            logger.log(level, message, prefix);
+        }
+        
         public LogLevel getLevel() {
             
             return level;
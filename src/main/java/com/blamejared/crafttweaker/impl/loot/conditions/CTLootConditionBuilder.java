@@ -219,11 +219,13 @@ public final class CTLootConditionBuilder {
      *
      * The builder may then be re-used for additional purposes, though this is not suggested.
      *
+     * The returned conditions are compiled: logic gates are flattened and constant sub-conditions folded away.
+     *
      * @return The current set of built conditions.
      */
     @ZenCodeType.Method
     public ILootCondition[] build() {
-        return this.conditions.toArray(new ILootCondition[0]);
+        return LootConditionCompiler.compile(this.conditions);
     }
 
     public ILootCondition single() {
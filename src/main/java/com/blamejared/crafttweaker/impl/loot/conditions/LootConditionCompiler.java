@@ -0,0 +1,154 @@
+package com.blamejared.crafttweaker.impl.loot.conditions;
+
+import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
+import net.minecraft.loot.LootContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds the logic gates used by the loot condition builders into flat, array based condition trees.
+ *
+ * Nested 'And' and 'Or' conditions are merged into their parent, constant 'True' and 'False' conditions are folded
+ * away and {@link DirectCondition}s are moved in front of the other sub-conditions, so the cheap checks short-circuit
+ * before any vanilla or script condition gets evaluated.
+ */
+public final class LootConditionCompiler {
+
+    public static final ILootCondition TRUE = new Constant(true);
+    public static final ILootCondition FALSE = new Constant(false);
+
+    private LootConditionCompiler() {}
+
+    public static ILootCondition and(final Collection<ILootCondition> conditions) {
+        final List<ILootCondition> flattened = new ArrayList<>(conditions.size());
+        for (final ILootCondition condition : conditions) {
+            if (condition == FALSE) return FALSE;
+            if (condition == TRUE) continue;
+            if (condition instanceof And) {
+                flattened.addAll(Arrays.asList(((And) condition).conditions));
+            } else {
+                flattened.add(condition);
+            }
+        }
+        if (flattened.isEmpty()) return TRUE;
+        if (flattened.size() == 1) return flattened.get(0);
+        return new And(order(flattened));
+    }
+
+    public static ILootCondition or(final Collection<ILootCondition> conditions) {
+        final List<ILootCondition> flattened = new ArrayList<>(conditions.size());
+        for (final ILootCondition condition : conditions) {
+            if (condition == TRUE) return TRUE;
+            if (condition == FALSE) continue;
+            if (condition instanceof Or) {
+                flattened.addAll(Arrays.asList(((Or) condition).conditions));
+            } else {
+                flattened.add(condition);
+            }
+        }
+        if (flattened.isEmpty()) return FALSE;
+        if (flattened.size() == 1) return flattened.get(0);
+        return new Or(order(flattened));
+    }
+
+    public static ILootCondition not(final ILootCondition condition) {
+        if (condition == TRUE) return FALSE;
+        if (condition == FALSE) return TRUE;
+        if (condition instanceof Not) return ((Not) condition).condition;
+        return new Not(condition);
+    }
+
+    public static ILootCondition[] compile(final Collection<ILootCondition> conditions) {
+        return conditions.stream().map(LootConditionCompiler::compile).toArray(ILootCondition[]::new);
+    }
+
+    /**
+     * Compiles a single condition. Gates created through this class are already compiled, anything else is treated as
+     * an opaque condition and returned as is.
+     */
+    public static ILootCondition compile(final ILootCondition condition) {
+        if (condition instanceof And) return and(Arrays.asList(((And) condition).conditions));
+        if (condition instanceof Or) return or(Arrays.asList(((Or) condition).conditions));
+        return condition;
+    }
+
+    // Stable, so the relative order of conditions with side effects (e.g. random chances) is kept
+    private static ILootCondition[] order(final List<ILootCondition> conditions) {
+        final ILootCondition[] ordered = new ILootCondition[conditions.size()];
+        int index = 0;
+        for (final ILootCondition condition : conditions) {
+            if (condition instanceof DirectCondition) ordered[index++] = condition;
+        }
+        for (final ILootCondition condition : conditions) {
+            if (!(condition instanceof DirectCondition)) ordered[index++] = condition;
+        }
+        return ordered;
+    }
+
+    /**
+     * Marks a condition that is a cheap, side effect free check on the context, such as a block state comparison.
+     */
+    @FunctionalInterface
+    public interface DirectCondition extends ILootCondition {}
+
+    private static final class Constant implements DirectCondition {
+        private final boolean value;
+
+        private Constant(final boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean test(final LootContext context) {
+            return this.value;
+        }
+    }
+
+    private static final class And implements ILootCondition {
+        private final ILootCondition[] conditions;
+
+        private And(final ILootCondition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        public boolean test(final LootContext context) {
+            for (final ILootCondition condition : this.conditions) {
+                if (!condition.test(context)) return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Or implements ILootCondition {
+        private final ILootCondition[] conditions;
+
+        private Or(final ILootCondition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        public boolean test(final LootContext context) {
+            for (final ILootCondition condition : this.conditions) {
+                if (condition.test(context)) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Not implements ILootCondition {
+        private final ILootCondition condition;
+
+        private Not(final ILootCondition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        public boolean test(final LootContext context) {
+            return !this.condition.test(context);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.loot.conditions.CTLootConditionBuilder;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -58,6 +59,6 @@ public final class AndLootConditionTypeBuilder implements ILootConditionTypeBuil
         } else if (this.subConditions.size() == 1) {
             CraftTweakerAPI.logWarning("An 'And' loot condition has only one condition: this is equivalent to the condition itself");
         }
-        return context -> this.subConditions.stream().allMatch(it -> it.test(context));
+        return LootConditionCompiler.and(this.subConditions);
     }
 }
@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.impl.loot.conditions.crafttweaker;
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker.impl_native.loot.ExpandLootContext;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.block.BlockState;
@@ -47,12 +48,8 @@ public final class BlockStateLootConditionTypeBuilder implements ILootConditionT
         if (this.state == null) {
             throw new IllegalStateException("A block state for a 'BlockState' condition must be specified");
         }
-        return context -> {
-            final BlockState state = ExpandLootContext.getBlockState(context);
-            if (state == null){
-                return false;
-            }
-            return state.equals(this.state);
-        };
+        final BlockState target = this.state;
+        // Block states are canonical instances, so the comparison is an identity check
+        return (LootConditionCompiler.DirectCondition) context -> ExpandLootContext.getBlockState(context) == target;
     }
 }
@@ -4,11 +4,16 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.helper.CraftTweakerHelper;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker.impl.tag.MCTag;
 import com.blamejared.crafttweaker.impl_native.loot.ExpandLootContext;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.loot.LootContext;
+import net.minecraft.tags.ITag;
+import net.minecraft.tags.ITagCollection;
+import net.minecraft.tags.TagCollectionManager;
 import org.openzen.zencode.java.ZenCodeType;
 
 /**
@@ -46,11 +51,45 @@ public final class BlockTagLootConditionTypeBuilder implements ILootConditionTyp
         if (this.targetTag == null) {
             throw new IllegalStateException("A tag for a 'BlockTag' condition must be specified");
         }
-        return context -> {
+        return new BlockTagCondition(this.targetTag);
+    }
+    
+    /**
+     * Checks the block against the resolved tag, resolving it again only when the block tag collection was swapped by a
+     * reload. Conditions are built while scripts run, which may happen before the reloaded tags are bound, so the tag
+     * can't be resolved once when the condition is built.
+     */
+    private static final class BlockTagCondition implements LootConditionCompiler.DirectCondition {
+        private final MCTag<Block> tag;
+        private volatile ResolvedTag resolved;
+        
+        BlockTagCondition(final MCTag<Block> tag) {
+            this.tag = tag;
+        }
+        
+        @Override
+        public boolean test(final LootContext context) {
             final BlockState state = ExpandLootContext.getBlockState(context);
+            if (state == null) return false;
             
-            return state != null && state.getBlock().isIn(CraftTweakerHelper.getITag(this.targetTag));
-        };
+            final ITagCollection<Block> collection = TagCollectionManager.getManager().getBlockTags();
+            ResolvedTag resolved = this.resolved;
+            if (resolved == null || resolved.collection != collection) {
+                resolved = new ResolvedTag(collection, CraftTweakerHelper.getITag(this.tag));
+                this.resolved = resolved;
+            }
+            return resolved.tag != null && resolved.tag.contains(state.getBlock());
+        }
+    }
+    
+    private static final class ResolvedTag {
+        private final ITagCollection<Block> collection;
+        private final ITag<Block> tag;
+        
+        ResolvedTag(final ITagCollection<Block> collection, final ITag<Block> tag) {
+            this.collection = collection;
+            this.tag = tag;
+        }
     }
     
 }
@@ -4,13 +4,12 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker.impl_native.loot.ExpandLootContext;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraftforge.common.ToolType;
 import org.openzen.zencode.java.ZenCodeType;
 
-import java.util.Arrays;
-
 /**
  * Builder to create a 'ToolType' loot condition.
  *
@@ -47,9 +46,14 @@ public final class ToolTypeLootConditionTypeBuilder implements ILootConditionTyp
 
     @Override
     public ILootCondition finish() {
-        return context -> {
+        final ToolType type = this.type;
+        return (LootConditionCompiler.DirectCondition) context -> {
             final IItemStack tool = ExpandLootContext.getTool(context);
-            return tool != null && !tool.isEmpty() && Arrays.stream(tool.getToolTypes()).anyMatch(it -> it == this.type);
+            if (tool == null || tool.isEmpty()) return false;
+            for (final ToolType toolType : tool.getToolTypes()) {
+                if (toolType == type) return true;
+            }
+            return false;
         };
     }
     
@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.impl.loot.conditions.crafttweaker;
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -16,12 +17,11 @@ import org.openzen.zencode.java.ZenCodeType;
 @Document("vanilla/api/loot/conditions/crafttweaker/True")
 public final class TrueLootConditionTypeBuilder implements ILootConditionTypeBuilder {
     static final TrueLootConditionTypeBuilder INSTANCE = new TrueLootConditionTypeBuilder();
-    private static final ILootCondition TRUE = context -> true;
     
     private TrueLootConditionTypeBuilder() {}
     
     @Override
     public ILootCondition finish() {
-        return TRUE;
+        return LootConditionCompiler.TRUE;
     }
 }
@@ -4,6 +4,7 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.impl.loot.conditions.CTLootConditionBuilder;
 import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilder;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -81,6 +82,6 @@ public final class InvertedLootConditionTypeBuilder implements ILootConditionTyp
     @Override
     public ILootCondition finish() {
         if (this.sub == null) throw new IllegalStateException("Missing condition to invert");
-        return context -> !this.sub.test(context);
+        return LootConditionCompiler.not(this.sub);
     }
 }
@@ -7,9 +7,11 @@ import com.blamejared.crafttweaker.impl.loot.conditions.ILootConditionTypeBuilde
 import com.blamejared.crafttweaker.impl.predicate.ItemPredicate;
 import com.blamejared.crafttweaker.impl_native.loot.ExpandLootContext;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.item.ItemStack;
 import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Builder for the 'MatchTool' loot condition.
@@ -137,10 +139,10 @@ public final class MatchToolLootConditionBuilder implements ILootConditionTypeBu
 
     @Override
     public ILootCondition finish() {
-        final net.minecraft.advancements.criterion.ItemPredicate vanilla = this.predicate.toVanillaPredicate();
+        final Predicate<ItemStack> matcher = this.predicate.toDirectMatcher();
         return context -> {
             final IItemStack stack = ExpandLootContext.getTool(context);
-            return stack != null && stack.getInternal() != null && vanilla.test(stack.getInternal());
+            return stack != null && stack.getInternal() != null && matcher.test(stack.getInternal());
         };
     }
 }
@@ -5,6 +5,7 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.api.loot.modifiers.ILootModifier;
 import com.blamejared.crafttweaker.impl.helper.CraftTweakerHelper;
+import com.blamejared.crafttweaker.impl.loot.conditions.LootConditionCompiler;
 import net.minecraft.item.ItemStack;
 import net.minecraft.loot.LootContext;
 import net.minecraftforge.common.loot.LootModifier;
@@ -24,7 +25,7 @@ public final class CTLootModifier extends LootModifier {
     public CTLootModifier(final String name, final List<ILootCondition> conditions, final ILootModifier function) {
         super(new net.minecraft.loot.conditions.ILootCondition[0]);
         this.name = name;
-        this.conditions = context -> conditions.stream().allMatch(it -> it.test(context));
+        this.conditions = LootConditionCompiler.and(conditions)::test;
         this.function = function;
     }
 
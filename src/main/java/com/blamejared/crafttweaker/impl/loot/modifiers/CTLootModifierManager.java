@@ -6,6 +6,7 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.loot.conditions.ILootCondition;
 import com.blamejared.crafttweaker.api.loot.modifiers.ILootModifier;
 import com.blamejared.crafttweaker.api.util.MethodHandleHelper;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
 import com.blamejared.crafttweaker.impl.actions.loot.ActionRegisterLootModifier;
 import com.blamejared.crafttweaker.impl.actions.loot.ActionRemoveLootModifier;
 import com.blamejared.crafttweaker.impl.loot.conditions.CTLootConditionBuilder;
@@ -21,8 +22,11 @@ import org.openzen.zencode.java.ZenCodeType;
 import java.lang.invoke.MethodHandle;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +54,9 @@ public final class CTLootModifierManager {
     private static final MethodHandle LMM_MAP_GETTER = MethodHandleHelper.linkGetter(LootModifierManager.class, "registeredLootModifiers");
     private static final MethodHandle LMM_MAP_SETTER = MethodHandleHelper.linkSetter(LootModifierManager.class, "registeredLootModifiers");
 
+    private Map<ResourceLocation, IGlobalLootModifier> staged;
+    private ScriptRun stagingRun;
+
     private CTLootModifierManager() {}
 
     /**
@@ -179,7 +186,14 @@ public final class CTLootModifierManager {
      */
     @ZenCodeType.Method
     public void removeByRegex(final String regex) {
-        CraftTweakerAPI.apply(ActionRemoveLootModifier.of(name -> name.toString().matches(regex), "matching the regular expression '" + regex + "'", this::getLmmMap));
+        final Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (final PatternSyntaxException e) {
+            CraftTweakerAPI.logThrowing("Invalid regular expression '" + regex + "' for loot modifier removal", e);
+            return;
+        }
+        CraftTweakerAPI.apply(ActionRemoveLootModifier.of(name -> pattern.matcher(name.toString()).matches(), "matching the regular expression '" + regex + "'", this::getLmmMap));
     }
 
     /**
@@ -190,20 +204,67 @@ public final class CTLootModifierManager {
         CraftTweakerAPI.apply(new ActionRemoveLootModifier(ignored -> true, null, this::getLmmMap));
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Installs the loot modifiers registered and removed during the given run.
+     *
+     * While the actions of the previous run are undone and the scripts are executing, all changes are made to a staged
+     * copy of the loot modifier map, which is swapped in as a whole once the run ends. Loot tables rolled in the meantime
+     * thus only ever see either the old or the new set of loot modifiers.
+     *
+     * @param run The run that has just finished executing its scripts.
+     */
+    public synchronized void finishRun(final ScriptRun run) {
+        if (this.stagingRun != run) return;
+        final Map<ResourceLocation, IGlobalLootModifier> staged = this.staged;
+        this.staged = null;
+        this.stagingRun = null;
+
+        final LootModifierManager lmm = this.getLmm();
+        if (lmm == null || staged.equals(this.getLmmMap(lmm))) return;
+        final Map<ResourceLocation, IGlobalLootModifier> installed = ImmutableMap.copyOf(staged);
+        MethodHandleHelper.invokeVoid(() -> this.setLmmMap(lmm, installed));
+        CraftTweakerAPI.logInfo("Installed %s loot modifiers", installed.size());
+    }
+
     private Map<ResourceLocation, IGlobalLootModifier> getLmmMap() {
-        try {
-            final LootModifierManager lmm = MethodHandleHelper.invoke(() -> (LootModifierManager) LMM_GETTER.invokeExact());
-            Map<ResourceLocation, IGlobalLootModifier> map = MethodHandleHelper.invoke(() -> (Map<ResourceLocation, IGlobalLootModifier>) LMM_MAP_GETTER.invokeExact(lmm));
-            if (map instanceof ImmutableMap) {
-                map = new HashMap<>(map);
-                final Map<ResourceLocation, IGlobalLootModifier> finalMap = map;
-                MethodHandleHelper.invokeVoid(() -> this.setLmmMap(lmm, finalMap)); // Let's "mutabilize" the map
+        final ScriptRun run = CraftTweakerAPI.getCurrentRun();
+        if (!run.isRunning() && !run.isReloading()) return this.getMutableLmmMap();
+
+        synchronized (this) {
+            if (this.stagingRun != run) {
+                final LootModifierManager lmm = this.getLmm();
+                if (lmm == null) return Collections.emptyMap();
+                this.staged = new LinkedHashMap<>(this.getLmmMap(lmm));
+                this.stagingRun = run;
             }
-            return map;
+            return this.staged;
+        }
+    }
+
+    // Only used outside of script runs (e.g. from event handlers), where there is no end of the run to install a staged map
+    private Map<ResourceLocation, IGlobalLootModifier> getMutableLmmMap() {
+        final LootModifierManager lmm = this.getLmm();
+        if (lmm == null) return Collections.emptyMap();
+        Map<ResourceLocation, IGlobalLootModifier> map = this.getLmmMap(lmm);
+        if (map instanceof ImmutableMap) {
+            map = new HashMap<>(map);
+            final Map<ResourceLocation, IGlobalLootModifier> finalMap = map;
+            MethodHandleHelper.invokeVoid(() -> this.setLmmMap(lmm, finalMap)); // Let's "mutabilize" the map
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ResourceLocation, IGlobalLootModifier> getLmmMap(final LootModifierManager lmm) {
+        return MethodHandleHelper.invoke(() -> (Map<ResourceLocation, IGlobalLootModifier>) LMM_MAP_GETTER.invokeExact(lmm));
+    }
+
+    private LootModifierManager getLmm() {
+        try {
+            return MethodHandleHelper.invoke(() -> (LootModifierManager) LMM_GETTER.invokeExact());
         } catch (final IllegalStateException e) {
             // LMM_GETTER.invokeExact() throws ISE if we're on the client and playing multiplayer
-            return Collections.emptyMap();
+            return null;
         }
     }
     
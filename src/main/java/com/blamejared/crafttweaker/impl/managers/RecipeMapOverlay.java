@@ -0,0 +1,141 @@
+package com.blamejared.crafttweaker.impl.managers;
+
+import com.blamejared.crafttweaker.impl.script.IncrementalReload;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.util.ResourceLocation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write view over the recipe maps of a {@link RecipeManager}.
+ *
+ * Vanilla stores its recipes as an ImmutableMap of ImmutableMaps. Instead of copying every map on each reload, only the
+ * outer map is copied when the overlay is installed, and a single recipe type map is copied the first time something
+ * requests mutable access to it. Types that are never touched keep the original immutable maps.
+ *
+ * Recipe actions don't undo themselves, since every reload and every recipe sync gives the manager a fresh set of
+ * recipes, on which a new overlay is installed. The original map of every copied type is still kept as a snapshot, so
+ * an incremental reload that fails can {@link #rollback()} its changes before the scripts are run in full.
+ */
+public final class RecipeMapOverlay {
+    
+    private static RecipeMapOverlay current;
+    
+    private final RecipeManager recipeManager;
+    private final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> recipes;
+    // Original map of every copied type, null if the type had no map
+    private final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> snapshots;
+    
+    private RecipeMapOverlay(RecipeManager recipeManager) {
+        
+        this.recipeManager = recipeManager;
+        this.recipes = recipeManager.recipes;
+        this.snapshots = new HashMap<>();
+    }
+    
+    /**
+     * Installs a fresh overlay on the given manager and makes it the one used by {@link CTCraftingTableManager}.
+     *
+     * @param recipeManager The manager whose recipes will be modified by the upcoming script run.
+     *
+     * @return The installed overlay.
+     */
+    public static RecipeMapOverlay install(RecipeManager recipeManager) {
+        
+        recipeManager.recipes = new HashMap<>(recipeManager.recipes);
+        CTCraftingTableManager.recipeManager = recipeManager;
+        current = new RecipeMapOverlay(recipeManager);
+        return current;
+    }
+    
+    /**
+     * Gets the overlay for the current {@link CTCraftingTableManager#recipeManager}, installing one if the manager was
+     * swapped without going through {@link #install(RecipeManager)}.
+     */
+    public static RecipeMapOverlay get() {
+        
+        final RecipeManager recipeManager = CTCraftingTableManager.recipeManager;
+        if(current == null || current.recipeManager != recipeManager) {
+            return install(recipeManager);
+        }
+        return current;
+    }
+    
+    /**
+     * Gets the recipes of the given type without copying them. The returned map must not be modified.
+     *
+     * The access is recorded for {@link IncrementalReload}, since the scripts may depend on the recipes they see.
+     */
+    public Map<ResourceLocation, IRecipe<?>> view(IRecipeType<?> recipeType) {
+        
+        IncrementalReload.recordRead(recipeType);
+        return recipeManager.recipes.getOrDefault(recipeType, Collections.emptyMap());
+    }
+    
+    /**
+     * Gets a modifiable map of the recipes of the given type, copying the underlying map on first access.
+     */
+    public Map<ResourceLocation, IRecipe<?>> mutable(IRecipeType<?> recipeType) {
+        
+        IncrementalReload.recordRead(recipeType);
+        if(!snapshots.containsKey(recipeType)) {
+            final Map<ResourceLocation, IRecipe<?>> original = recipeManager.recipes.get(recipeType);
+            snapshots.put(recipeType, original);
+            final Map<ResourceLocation, IRecipe<?>> copy = original == null ? new HashMap<>() : new HashMap<>(original);
+            recipeManager.recipes.put(recipeType, copy);
+            return copy;
+        }
+        return recipeManager.recipes.get(recipeType);
+    }
+    
+    /**
+     * Replaces the recipes of a type that was not copied yet with the given map, without copying it. The map is copied
+     * like the original one once something requests mutable access to it. A null map removes the type.
+     *
+     * @return The previous map of the type, or null if the type had no recipes.
+     */
+    public Map<ResourceLocation, IRecipe<?>> replace(IRecipeType<?> recipeType, Map<ResourceLocation, IRecipe<?>> replacement) {
+        
+        if(snapshots.containsKey(recipeType)) {
+            throw new IllegalStateException("Recipes of type " + recipeType + " were already modified");
+        }
+        return replacement == null ? recipeManager.recipes.remove(recipeType) : recipeManager.recipes.put(recipeType, replacement);
+    }
+    
+    public Set<IRecipeType<?>> getRecipeTypes() {
+        
+        return recipeManager.recipes.keySet();
+    }
+    
+    public boolean isCopied(IRecipeType<?> recipeType) {
+        
+        return snapshots.containsKey(recipeType);
+    }
+    
+    /**
+     * Restores the original map of every recipe type that was copied, dropping all changes made through this overlay.
+     * Used by {@link IncrementalReload} if running only the changed scripts
+     * failed.
+     *
+     * Nothing is restored if the manager got a new set of recipes in the meantime, e.g. because the client received new
+     * recipes from the server.
+     */
+    public void rollback() {
+        
+        if(recipeManager.recipes == recipes) {
+            snapshots.forEach((recipeType, original) -> {
+                if(original == null) {
+                    recipes.remove(recipeType);
+                } else {
+                    recipes.put(recipeType, original);
+                }
+            });
+        }
+        snapshots.clear();
+    }
+}
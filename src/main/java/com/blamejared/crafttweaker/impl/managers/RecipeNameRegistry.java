@@ -0,0 +1,138 @@
+package com.blamejared.crafttweaker.impl.managers;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import com.blamejared.crafttweaker.api.zencode.impl.util.PositionUtil;
+import com.blamejared.crafttweaker.impl.util.NameUtils;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Registry;
+import org.openzen.zencode.shared.CodePosition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the recipe names used during a script run, shared by all recipe managers.
+ *
+ * Every recipe added by the run is indexed by its name, so a name that is used twice is found with a single lookup, no
+ * matter which recipe types the two recipes belong to. Invalid names and conflicts are not logged one by one, they are
+ * collected and logged as a single summary once the run has finished.
+ *
+ * Recipes that are added after the scripts of a run have finished, like from event handlers, are never part of a
+ * summary. Their invalid names and conflicts with existing recipes are logged right away.
+ */
+public final class RecipeNameRegistry {
+    
+    private static final Map<ScriptRun, RecipeNameRegistry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final Map<ResourceLocation, IRecipeType<?>> addedNames = new HashMap<>();
+    private final List<String> fixedNames = new ArrayList<>();
+    private final List<String> conflicts = new ArrayList<>();
+    private final boolean logImmediately;
+    
+    private RecipeNameRegistry(boolean logImmediately) {
+        
+        this.logImmediately = logImmediately;
+    }
+    
+    /**
+     * Gets the registry of the current script run, or a registry that logs right away if the scripts of the current run
+     * have finished already.
+     */
+    public static RecipeNameRegistry get() {
+        
+        final ScriptRun currentRun = CraftTweakerAPI.getCurrentRun();
+        if(!currentRun.isRunning()) {
+            // finishRun was called already, so nothing collected from now on would ever be logged
+            return new RecipeNameRegistry(true);
+        }
+        return REGISTRIES.computeIfAbsent(currentRun, run -> new RecipeNameRegistry(false));
+    }
+    
+    /**
+     * Logs the invalid names and conflicts of the given run and forgets about them.
+     */
+    public static void finishRun(ScriptRun run) {
+        
+        final RecipeNameRegistry registry = REGISTRIES.remove(run);
+        if(registry != null) {
+            registry.logSummary();
+        }
+    }
+    
+    /**
+     * Fixes common mistakes in recipe names, see {@link NameUtils#fixing(String, java.util.function.BiConsumer)}.
+     *
+     * The script position is only looked up for names that actually contain mistakes.
+     *
+     * @param name The name to fix.
+     *
+     * @return The fixed name.
+     */
+    public synchronized String fix(String name) {
+        
+        return NameUtils.fixing(name, (fixed, mistakes) -> {
+            final CodePosition position = PositionUtil.getZCScriptPositionFromStackTrace();
+            final String message = String.format("%sInvalid recipe name '%s', mistakes:\n%s\nNew recipe name: %s", position == CodePosition.UNKNOWN ? "" : position + ": ", name, String
+                    .join("\n", mistakes), fixed);
+            if(logImmediately) {
+                CraftTweakerAPI.logWarning("%s", message);
+            } else {
+                fixedNames.add(message);
+            }
+        });
+    }
+    
+    /**
+     * Records that a recipe with the given name is added, remembering a conflict if the name is already in use.
+     *
+     * @param recipeType   The type of the added recipe.
+     * @param name         The name of the added recipe.
+     * @param existsInType Whether the recipe type already contains a recipe with that name.
+     */
+    public synchronized void add(IRecipeType<?> recipeType, ResourceLocation name, boolean existsInType) {
+        
+        final IRecipeType<?> previousType = addedNames.put(name, recipeType);
+        if(previousType == null) {
+            if(existsInType) {
+                addConflict(String.format("'%s' overwrites an existing '%s' recipe", name, getTypeName(recipeType)));
+            }
+        } else if(previousType == recipeType) {
+            addConflict(String.format("'%s' is added twice as '%s' recipe, only the last one is kept", name, getTypeName(recipeType)));
+        } else {
+            addConflict(String.format("'%s' is used by a '%s' and a '%s' recipe", name, getTypeName(previousType), getTypeName(recipeType)));
+        }
+    }
+    
+    private void addConflict(String conflict) {
+        
+        if(logImmediately) {
+            CraftTweakerAPI.logWarning("Recipe name conflict, this is most likely an error in your scripts: %s", conflict);
+        } else {
+            conflicts.add(conflict);
+        }
+    }
+    
+    private synchronized void logSummary() {
+        
+        if(!fixedNames.isEmpty()) {
+            CraftTweakerAPI.logWarning("Fixed %s invalid recipe names:\n%s", fixedNames.size(), String.join("\n", fixedNames));
+        }
+        if(!conflicts.isEmpty()) {
+            CraftTweakerAPI.logWarning("Found %s recipe name conflicts, this is most likely an error in your scripts:\n%s", conflicts
+                    .size(), String.join("\n", conflicts));
+        }
+    }
+    
+    private static String getTypeName(IRecipeType<?> recipeType) {
+        
+        final ResourceLocation key = Registry.RECIPE_TYPE.getKey(recipeType);
+        return key == null ? recipeType.toString() : key.toString();
+    }
+    
+}
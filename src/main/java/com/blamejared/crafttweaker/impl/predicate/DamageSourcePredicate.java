@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.impl.predicate;
 
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
 import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.function.Consumer;
@@ -311,4 +312,9 @@ public final class DamageSourcePredicate extends IVanillaWrappingPredicate.AnyDe
                 this.sourceEntity.toVanillaPredicate()
         );
     }
+
+    @Override
+    protected JsonElement serialize(final net.minecraft.advancements.criterion.DamageSourcePredicate vanilla) {
+        return vanilla.serialize();
+    }
 }
@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.impl.predicate;
 
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
 import net.minecraft.potion.Effect;
 import net.minecraft.util.ResourceLocation;
 import org.openzen.zencode.java.ZenCodeType;
@@ -319,4 +320,9 @@ public final class EntityPredicate extends IVanillaWrappingPredicate.AnyDefaulti
                 .catTypeOrNull(this.catType)
                 .build();
     }
+
+    @Override
+    protected JsonElement serialize(final net.minecraft.advancements.criterion.EntityPredicate vanilla) {
+        return vanilla.serialize();
+    }
 }
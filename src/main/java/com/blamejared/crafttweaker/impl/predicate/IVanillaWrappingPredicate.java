@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.impl.predicate;
 
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
 import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.Objects;
@@ -30,6 +31,7 @@ public interface IVanillaWrappingPredicate<T> {
     @Document("vanilla/api/predicate/AnyDefaultingVanillaWrappingPredicate")
     abstract class AnyDefaulting<T> implements IVanillaWrappingPredicate<T> {
         private final Supplier<T> any;
+        private T frozen;
 
         protected AnyDefaulting(final T any) {
             this(() -> any);
@@ -39,16 +41,32 @@ public interface IVanillaWrappingPredicate<T> {
             this.any = any;
         }
 
+        /**
+         * Gets the vanilla predicate represented by this predicate.
+         *
+         * The first call freezes this predicate: the vanilla predicate is built once, shared with all equal predicates
+         * built during the same script run and returned by every further call. Any change made to this predicate after
+         * that point is thus not reflected anymore.
+         */
         @Override
         public final T toVanillaPredicate() {
-            if (this.isAny()) {
-                return Objects.requireNonNull(this.any.get());
+            if (this.frozen == null) {
+                this.frozen = this.isAny()? Objects.requireNonNull(this.any.get()) : VanillaPredicateCache.dedupe(this.toVanilla(), this::serialize);
             }
-            return this.toVanilla();
+            return this.frozen;
         }
 
         public abstract boolean isAny();
         public abstract T toVanilla();
+
+        /**
+         * Serializes the given vanilla predicate, so that equal predicates can be shared.
+         *
+         * @return The serialized form of the predicate, or <code>null</code> if it should not be shared.
+         */
+        protected JsonElement serialize(final T vanilla) {
+            return null;
+        }
     }
 
     T toVanillaPredicate();
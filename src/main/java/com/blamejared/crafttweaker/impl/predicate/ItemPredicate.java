@@ -7,14 +7,24 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.impl.helper.CraftTweakerHelper;
 import com.blamejared.crafttweaker.impl.tag.MCTag;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
 import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.item.EnchantedBookItem;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.NBTUtil;
 import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionUtils;
+import net.minecraft.tags.ITag;
 import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Represents the predicate for an {@link Item}.
@@ -40,6 +50,7 @@ public final class ItemPredicate extends IVanillaWrappingPredicate.AnyDefaulting
     private Item item;
     private MCTag<Item> tag;
     private Potion potion;
+    private Predicate<ItemStack> matcher;
 
     public ItemPredicate() {
         super(net.minecraft.advancements.criterion.ItemPredicate.ANY);
@@ -431,7 +442,83 @@ public final class ItemPredicate extends IVanillaWrappingPredicate.AnyDefaulting
         );
     }
 
+    @Override
+    protected JsonElement serialize(final net.minecraft.advancements.criterion.ItemPredicate vanilla) {
+        return vanilla.serialize();
+    }
+
     private net.minecraft.advancements.criterion.EnchantmentPredicate[] toVanilla(final List<EnchantmentPredicate> list) {
         return list.stream().map(AnyDefaulting::toVanillaPredicate).toArray(net.minecraft.advancements.criterion.EnchantmentPredicate[]::new);
     }
+
+    /**
+     * Gets a matcher that behaves like the vanilla version of this predicate, but only checks the properties that have
+     * actually been set, instead of testing every unbounded range and the 'ANY' NBT predicate on each stack.
+     *
+     * Like {@link #toVanillaPredicate()}, this freezes the predicate.
+     *
+     * @return A matcher equivalent to the vanilla predicate.
+     */
+    public Predicate<ItemStack> toDirectMatcher() {
+        if (this.matcher == null) {
+            this.matcher = this.isAny()? stack -> true : this.buildDirectMatcher();
+        }
+        return this.matcher;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<ItemStack> buildDirectMatcher() {
+        // The vanilla predicate is built anyway, so the conversion warnings are logged just once
+        this.toVanillaPredicate();
+        final List<Predicate<ItemStack>> checks = new ArrayList<>();
+        if (this.tag != null) {
+            final ITag<Item> tag = CraftTweakerHelper.getITag(this.tag);
+            checks.add(stack -> tag.contains(stack.getItem()));
+        }
+        if (this.item != null) {
+            final Item item = this.item;
+            checks.add(stack -> stack.getItem() == item);
+        }
+        if (!this.amount.isAny()) {
+            final IntRangePredicate amount = this.amount;
+            checks.add(stack -> amount.match(stack.getCount()));
+        }
+        if (!this.damage.isAny()) {
+            // Vanilla checks the remaining durability, not the damage
+            final IntRangePredicate durability = this.damage;
+            checks.add(stack -> stack.isDamageable() && durability.match(stack.getMaxDamage() - stack.getDamage()));
+        }
+        if (!this.data.isAny()) {
+            final CompoundNBT tag = this.data.toTag();
+            checks.add(stack -> stack.getTag() != null && NBTUtil.areNBTEquals(tag, stack.getTag(), true));
+        }
+        if (!this.enchantments.isEmpty()) {
+            final net.minecraft.advancements.criterion.EnchantmentPredicate[] enchantments = this.toVanilla(this.enchantments);
+            checks.add(stack -> matchesAll(enchantments, EnchantmentHelper.deserializeEnchantments(stack.getEnchantmentTagList())));
+        }
+        if (!this.storedEnchantments.isEmpty()) {
+            final net.minecraft.advancements.criterion.EnchantmentPredicate[] enchantments = this.toVanilla(this.storedEnchantments);
+            checks.add(stack -> matchesAll(enchantments, EnchantmentHelper.deserializeEnchantments(EnchantedBookItem.getEnchantments(stack))));
+        }
+        if (this.potion != null) {
+            final Potion potion = this.potion;
+            checks.add(stack -> PotionUtils.getPotionFromItem(stack) == potion);
+        }
+
+        if (checks.size() == 1) return checks.get(0);
+        final Predicate<ItemStack>[] array = checks.toArray(new Predicate[0]);
+        return stack -> {
+            for (final Predicate<ItemStack> check : array) {
+                if (!check.test(stack)) return false;
+            }
+            return true;
+        };
+    }
+
+    private static boolean matchesAll(final net.minecraft.advancements.criterion.EnchantmentPredicate[] predicates, final Map<Enchantment, Integer> enchantments) {
+        for (final net.minecraft.advancements.criterion.EnchantmentPredicate predicate : predicates) {
+            if (!predicate.test(enchantments)) return false;
+        }
+        return true;
+    }
 }
@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.impl.predicate;
 
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
@@ -390,6 +391,11 @@ public final class LocationPredicate extends IVanillaWrappingPredicate.AnyDefaul
         );
     }
 
+    @Override
+    protected JsonElement serialize(final net.minecraft.advancements.criterion.LocationPredicate vanilla) {
+        return vanilla.serialize();
+    }
+
     private <T> RegistryKey<T> toVanilla(final RegistryKey<? extends Registry<T>> registry, final ResourceLocation name) {
         if (name == null) return null;
         return RegistryKey.getOrCreateKey(registry, name);
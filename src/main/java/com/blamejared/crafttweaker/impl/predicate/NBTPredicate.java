@@ -4,6 +4,8 @@ import com.blamejared.crafttweaker.api.annotations.ZenRegister;
 import com.blamejared.crafttweaker.api.data.IData;
 import com.blamejared.crafttweaker.impl.data.MapData;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import com.google.gson.JsonElement;
+import net.minecraft.nbt.CompoundNBT;
 import org.openzen.zencode.java.ZenCodeType;
 
 /**
@@ -20,6 +22,7 @@ import org.openzen.zencode.java.ZenCodeType;
 @Document("vanilla/api/predicate/NBTPredicate")
 public final class NBTPredicate extends IVanillaWrappingPredicate.AnyDefaulting<net.minecraft.advancements.criterion.NBTPredicate> {
     private IData data;
+    private CompoundNBT frozenTag;
 
     public NBTPredicate() {
         super(net.minecraft.advancements.criterion.NBTPredicate.ANY);
@@ -50,7 +53,20 @@ public final class NBTPredicate extends IVanillaWrappingPredicate.AnyDefaulting<
 
     @Override
     public net.minecraft.advancements.criterion.NBTPredicate toVanilla() {
+        return new net.minecraft.advancements.criterion.NBTPredicate(this.toTag());
+    }
+
+    // Copied once, so later changes to the MapData can't change the predicate after it has been built
+    CompoundNBT toTag() {
         assert this.data instanceof MapData;
-        return new net.minecraft.advancements.criterion.NBTPredicate(((MapData) this.data).getInternal());
+        if (this.frozenTag == null) {
+            this.frozenTag = ((MapData) this.data).getInternal().copy();
+        }
+        return this.frozenTag;
+    }
+
+    @Override
+    protected JsonElement serialize(final net.minecraft.advancements.criterion.NBTPredicate vanilla) {
+        return vanilla.serialize();
     }
 }
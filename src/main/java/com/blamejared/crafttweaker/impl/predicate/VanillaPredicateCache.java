@@ -0,0 +1,52 @@
+package com.blamejared.crafttweaker.impl.predicate;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import com.google.gson.JsonElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Shares equal vanilla predicates built during a script run, so that conditions built from nearly identical scripts
+ * end up referencing the same predicate instances.
+ *
+ * Predicates are compared through their serialized form. The cache only lives while the scripts of a run are
+ * executing, it is cleared once they have finished, since predicates may reference tags that are rebound on a reload.
+ */
+public final class VanillaPredicateCache {
+    private static final Map<Class<?>, Map<JsonElement, Object>> CACHE = new HashMap<>();
+    private static ScriptRun cacheRun;
+
+    private VanillaPredicateCache() {}
+
+    @SuppressWarnings("unchecked")
+    static synchronized <T> T dedupe(final T vanilla, final Function<T, JsonElement> serializer) {
+        final JsonElement key;
+        final ScriptRun run;
+        try {
+            key = serializer.apply(vanilla);
+            run = CraftTweakerAPI.getCurrentRun();
+        } catch (final RuntimeException e) {
+            // Vanilla refuses to serialize e.g. tags that are not known yet: such a predicate simply isn't shared
+            return vanilla;
+        }
+        if (key == null || !run.isRunning()) return vanilla;
+
+        if (run != cacheRun) {
+            CACHE.clear();
+            cacheRun = run;
+        }
+        return (T) CACHE.computeIfAbsent(vanilla.getClass(), type -> new HashMap<>()).computeIfAbsent(key, ignored -> vanilla);
+    }
+
+    /**
+     * Clears the cache of the given run, so its predicates and their keys don't stay alive until the next run.
+     */
+    public static synchronized void finishRun(final ScriptRun run) {
+        if (run != cacheRun) return;
+        CACHE.clear();
+        cacheRun = null;
+    }
+}
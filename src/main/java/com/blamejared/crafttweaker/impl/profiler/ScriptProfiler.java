@@ -0,0 +1,207 @@
+package com.blamejared.crafttweaker.impl.profiler;
+
+import com.blamejared.crafttweaker.api.actions.IAction;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long scripts, actions and script event handlers take.
+ *
+ * Profiling is disabled by default, in which case {@link #begin()} returns {@link #NOT_PROFILING} and every record
+ * method returns immediately. It is toggled through {@code /ct profile start} and {@code /ct profile stop}.
+ */
+public final class ScriptProfiler {
+    
+    public static final long NOT_PROFILING = Long.MIN_VALUE;
+    public static final File REPORT_FILE = new File("logs/crafttweaker_profile.json");
+    
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Map<String, Map<Phase, Timing>> SCRIPTS = new ConcurrentHashMap<>();
+    private static final Map<String, Timing> ACTIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Timing> EVENT_HANDLERS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled = false;
+    
+    private ScriptProfiler() {}
+    
+    public static boolean isEnabled() {
+        
+        return enabled;
+    }
+    
+    /**
+     * Clears all previously recorded timings and starts profiling.
+     */
+    public static void start() {
+        
+        SCRIPTS.clear();
+        ACTIONS.clear();
+        EVENT_HANDLERS.clear();
+        enabled = true;
+    }
+    
+    public static void stop() {
+        
+        enabled = false;
+    }
+    
+    /**
+     * Gets the start time to pass to one of the record methods.
+     *
+     * @return The current time in nanoseconds, or {@link #NOT_PROFILING} if the profiler is disabled.
+     */
+    public static long begin() {
+        
+        return enabled ? System.nanoTime() : NOT_PROFILING;
+    }
+    
+    public static void recordScript(String fileName, Phase phase, long start) {
+        
+        if(start == NOT_PROFILING) {
+            return;
+        }
+        
+        // The /ct syntax check records on its own thread while a reload may record the same script
+        SCRIPTS.computeIfAbsent(fileName, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, ignored -> new Timing())
+                .add(System.nanoTime() - start);
+    }
+    
+    public static void recordAction(IAction action, long start) {
+        
+        if(start == NOT_PROFILING) {
+            return;
+        }
+        
+        ACTIONS.computeIfAbsent(action.getClass().getName(), ignored -> new Timing())
+                .add(System.nanoTime() - start);
+    }
+    
+    public static void recordEventHandler(String handlerName, long start) {
+        
+        if(start == NOT_PROFILING) {
+            return;
+        }
+        
+        EVENT_HANDLERS.computeIfAbsent(handlerName, ignored -> new Timing()).add(System.nanoTime() - start);
+    }
+    
+    /**
+     * Writes all recorded timings, slowest first, to {@link #REPORT_FILE}.
+     */
+    public static File writeReport() throws IOException {
+        
+        final JsonObject report = new JsonObject();
+        report.addProperty("profiling", enabled);
+        report.add("scripts", scriptsToJson());
+        report.add("actions", timingsToJson(ACTIONS, "count"));
+        report.add("event_handlers", timingsToJson(EVENT_HANDLERS, "calls"));
+        
+        if(!REPORT_FILE.getParentFile().exists() && !REPORT_FILE.getParentFile().mkdirs()) {
+            throw new IOException("Could not create folder " + REPORT_FILE.getParentFile().getAbsolutePath());
+        }
+        try(Writer writer = new OutputStreamWriter(new FileOutputStream(REPORT_FILE), StandardCharsets.UTF_8)) {
+            GSON.toJson(report, writer);
+        }
+        return REPORT_FILE;
+    }
+    
+    private static JsonArray scriptsToJson() {
+        
+        final JsonArray array = new JsonArray();
+        SCRIPTS.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Map<Phase, Timing>> entry) -> totalNanos(entry.getValue()))
+                        .reversed())
+                .forEach(entry -> {
+                    final JsonObject script = new JsonObject();
+                    script.addProperty("name", entry.getKey());
+                    script.addProperty("total_ms", toMillis(totalNanos(entry.getValue())));
+                    final JsonObject phases = new JsonObject();
+                    for(Phase phase : Phase.values()) {
+                        final Timing timing = entry.getValue().get(phase);
+                        if(timing != null) {
+                            phases.addProperty(phase.getName() + "_ms", toMillis(timing.getTotalNanos()));
+                        }
+                    }
+                    script.add("phases", phases);
+                    array.add(script);
+                });
+        return array;
+    }
+    
+    private static JsonArray timingsToJson(Map<String, Timing> timings, String countName) {
+        
+        final JsonArray array = new JsonArray();
+        timings.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Timing> entry) -> entry.getValue().getTotalNanos())
+                        .reversed())
+                .forEach(entry -> {
+                    final JsonObject timing = new JsonObject();
+                    timing.addProperty("name", entry.getKey());
+                    timing.addProperty(countName, entry.getValue().getCount());
+                    timing.addProperty("total_ms", toMillis(entry.getValue().getTotalNanos()));
+                    array.add(timing);
+                });
+        return array;
+    }
+    
+    private static long totalNanos(Map<Phase, Timing> phases) {
+        
+        return phases.values().stream().mapToLong(Timing::getTotalNanos).sum();
+    }
+    
+    private static double toMillis(long nanos) {
+        
+        return nanos / 1_000_000.0D;
+    }
+    
+    public enum Phase {
+        PREPROCESS,
+        PARSE,
+        COMPILE,
+        RUN;
+        
+        public String getName() {
+            
+            return name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+    
+    private static final class Timing {
+        
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        
+        void add(long nanos) {
+            
+            count.increment();
+            totalNanos.add(nanos);
+        }
+        
+        long getCount() {
+            
+            return count.sum();
+        }
+        
+        long getTotalNanos() {
+            
+            return totalNanos.sum();
+        }
+    }
+}
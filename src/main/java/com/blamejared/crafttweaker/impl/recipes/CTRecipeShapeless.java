@@ -118,6 +118,8 @@ public class CTRecipeShapeless implements ICraftingRecipe {
      */
     private boolean[] forAllUniqueMatches(IInventory inv, ForAllUniqueAction action) {
         final boolean[] visited = new boolean[inv.getSizeInventory()];
+        // Every slot is wrapped at most once, instead of once per ingredient it is tested against
+        final MCItemStack[] stacks = new MCItemStack[inv.getSizeInventory()];
         
         outer:
         for(int ingredientIndex = 0; ingredientIndex < this.ingredients.length; ingredientIndex++) {
@@ -130,7 +132,10 @@ public class CTRecipeShapeless implements ICraftingRecipe {
                 if(stackInSlot.isEmpty())
                     continue;
                 
-                final MCItemStack stack = new MCItemStack(stackInSlot);
+                if(stacks[i] == null) {
+                    stacks[i] = new MCItemStack(stackInSlot);
+                }
+                final MCItemStack stack = stacks[i];
                 if(ingredient.matches(stack)) {
                     visited[i] = true;
                     action.accept(ingredientIndex, i, stack);
@@ -0,0 +1,94 @@
+package com.blamejared.crafttweaker.impl.recipes;
+
+import com.blamejared.crafttweaker.api.item.IIngredient;
+import com.google.common.collect.MapMaker;
+import io.netty.buffer.Unpooled;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.network.PacketBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes the ingredients of our recipes to a packet only once and references them by index afterwards.
+ *
+ * Vanilla writes all recipes of a sync packet one after another into the same buffer, so the dictionary lives as long
+ * as the buffer. The first occurrence of an ingredient is written with the next free index, followed by the ingredient
+ * itself; every following occurrence only writes its index. Ingredients are compared by their serialized form, since
+ * the same tag or list creates a new vanilla ingredient for every recipe.
+ *
+ * Reading mirrors this, so identical ingredients of a packet end up as the same {@link IIngredient} instance.
+ */
+final class IngredientDictionary {
+    
+    // Weak keys compare by identity, buffers compare by their content
+    private static final ConcurrentMap<PacketBuffer, Writer> WRITERS = new MapMaker().weakKeys().makeMap();
+    private static final ConcurrentMap<PacketBuffer, List<IIngredient>> READERS = new MapMaker().weakKeys().makeMap();
+    
+    private IngredientDictionary() {}
+    
+    static void write(PacketBuffer buffer, Ingredient ingredient) {
+        
+        WRITERS.computeIfAbsent(buffer, ignored -> new Writer()).write(buffer, ingredient);
+    }
+    
+    static IIngredient read(PacketBuffer buffer) {
+        
+        final List<IIngredient> entries = READERS.computeIfAbsent(buffer, ignored -> new ArrayList<>());
+        final int index = buffer.readVarInt();
+        if(index == entries.size()) {
+            entries.add(IIngredient.fromIngredient(Ingredient.read(buffer)));
+        } else if(index < 0 || index > entries.size()) {
+            throw new IllegalStateException("Invalid ingredient index " + index + ", only " + entries.size() + " ingredients are known");
+        }
+        return entries.get(index);
+    }
+    
+    private static final class Writer {
+        
+        private final Map<Ingredient, Integer> byInstance = new IdentityHashMap<>();
+        private final Map<ByteBuffer, Integer> byContent = new HashMap<>();
+        
+        private void write(PacketBuffer buffer, Ingredient ingredient) {
+            
+            final Integer known = byInstance.get(ingredient);
+            if(known != null) {
+                buffer.writeVarInt(known);
+                return;
+            }
+            
+            final byte[] serialized = serialize(ingredient);
+            final Integer index = byContent.get(ByteBuffer.wrap(serialized));
+            if(index != null) {
+                byInstance.put(ingredient, index);
+                buffer.writeVarInt(index);
+                return;
+            }
+            
+            final int newIndex = byContent.size();
+            byContent.put(ByteBuffer.wrap(serialized), newIndex);
+            byInstance.put(ingredient, newIndex);
+            buffer.writeVarInt(newIndex);
+            buffer.writeBytes(serialized);
+        }
+        
+        private static byte[] serialize(Ingredient ingredient) {
+            
+            final PacketBuffer scratch = new PacketBuffer(Unpooled.buffer());
+            try {
+                ingredient.write(scratch);
+                final byte[] bytes = new byte[scratch.readableBytes()];
+                scratch.readBytes(bytes);
+                return bytes;
+            } finally {
+                scratch.release();
+            }
+        }
+    }
+    
+}
@@ -33,7 +33,7 @@ public class SerializerShaped extends ForgeRegistryEntry<IRecipeSerializer<?>> i
         
         for(int h = 0; h < inputs.length; h++) {
             for(int w = 0; w < inputs[h].length; w++) {
-                inputs[h][w] = IIngredient.fromIngredient(Ingredient.read(buffer));
+                inputs[h][w] = IngredientDictionary.read(buffer);
             }
         }
         
@@ -48,7 +48,7 @@ public class SerializerShaped extends ForgeRegistryEntry<IRecipeSerializer<?>> i
         buffer.writeVarInt(recipe.getRecipeWidth());
         
         for(Ingredient ingredient : recipe.getIngredients()) {
-            ingredient.write(buffer);
+            IngredientDictionary.write(buffer, ingredient);
         }
         
         buffer.writeBoolean(recipe.isMirrored());
@@ -65,7 +65,7 @@ public class SerializerShapeless extends ForgeRegistryEntry<IRecipeSerializer<?>
         IIngredient[] ingredients = new IIngredient[i];
         
         for(int j = 0; j < ingredients.length; ++j) {
-            ingredients[j] = IIngredient.fromIngredient(Ingredient.read(buffer));
+            ingredients[j] = IngredientDictionary.read(buffer);
         }
         
         ItemStack itemstack = buffer.readItemStack();
@@ -76,7 +76,7 @@ public class SerializerShapeless extends ForgeRegistryEntry<IRecipeSerializer<?>
     public void write(PacketBuffer buffer, CTRecipeShapeless recipe) {
         buffer.writeVarInt(recipe.getIngredients().size());
         for(Ingredient ingredient : recipe.getIngredients()) {
-            ingredient.write(buffer);
+            IngredientDictionary.write(buffer, ingredient);
         }
         buffer.writeItemStack(recipe.getRecipeOutput());
     }
@@ -4,12 +4,15 @@ import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.recipes.IReplacementRule;
 import com.blamejared.crafttweaker.impl.item.MCIngredientList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.Ingredient;
 
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public final class IngredientReplacementRule implements IReplacementRule {
     private final IIngredient from;
@@ -54,6 +57,19 @@ public final class IngredientReplacementRule implements IReplacementRule {
         return this.from.matches(original)? this.to : original;
     }
     
+    @Override
+    public Optional<Set<Item>> getTargetedItems() {
+        final IItemStack[] items = this.from.getItems();
+        // An ingredient without items may still match something, in which case anything could be replaced
+        if (items.length == 0) return Optional.empty();
+        
+        final Set<Item> targets = new ReferenceOpenHashSet<>();
+        for (final IItemStack item : items) {
+            targets.add(item.getInternal().getItem());
+        }
+        return Optional.of(targets);
+    }
+    
     @Override
     public String describe() {
         return String.format("Replacing %s --> %s", this.from.getCommandString(), this.to.getCommandString());
@@ -8,6 +8,7 @@ import com.blamejared.crafttweaker.api.managers.IRecipeManager;
 import com.blamejared.crafttweaker.api.recipes.IRecipeHandler;
 import com.blamejared.crafttweaker.api.recipes.IReplacementRule;
 import com.blamejared.crafttweaker.api.recipes.ITargetingRule;
+import com.blamejared.crafttweaker.api.recipes.ReplacementHandlerHelper;
 import com.blamejared.crafttweaker.impl.actions.recipes.ActionReplaceRecipe;
 import com.blamejared.crafttweaker.impl.managers.GenericRecipesManager;
 import com.blamejared.crafttweaker.impl.recipes.wrappers.WrapperRecipe;
@@ -56,12 +57,14 @@ public final class ReplacerAction implements IRuntimeAction {
     
     @Override
     public void apply() {
+        // Targeted items may come from tags, so they are collected once per application
+        final List<IReplacementRule> rules = ReplacementHandlerHelper.withTargetedItems(this.replacementRules);
         this.specificRecipesOrElse(GenericRecipesManager.RECIPES::getAllRecipes)
                 .stream()
                 .filter(it -> !this.defaultExclusions.contains(it.getId()))
                 .map(it -> Pair.of(it.getRecipe(), it.getManager()))
                 .filter(pair -> this.targetingRule.shouldBeReplaced(pair.getFirst(), pair.getSecond()))
-                .map(pair -> this.execute(pair.getSecond(), pair.getFirst(), this.replacementRules))
+                .map(pair -> this.execute(pair.getSecond(), pair.getFirst(), rules))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .forEach(CraftTweakerAPI::apply);
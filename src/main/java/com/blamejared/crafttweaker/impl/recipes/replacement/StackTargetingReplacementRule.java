@@ -4,11 +4,14 @@ import com.blamejared.crafttweaker.api.item.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.recipes.IReplacementRule;
 import com.blamejared.crafttweaker.impl.item.MCIngredientList;
+import net.minecraft.item.Item;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.Ingredient;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 
 public final class StackTargetingReplacementRule implements IReplacementRule {
     private final IItemStack from;
@@ -48,6 +51,11 @@ public final class StackTargetingReplacementRule implements IReplacementRule {
         return this.from.matches(original)? this.to : original;
     }
     
+    @Override
+    public Optional<Set<Item>> getTargetedItems() {
+        return Optional.of(Collections.singleton(this.from.getInternal().getItem()));
+    }
+    
     @Override
     public String describe() {
         return String.format("Replacing stacks %s --> %s", this.from.getCommandString(), this.to.getCommandString());
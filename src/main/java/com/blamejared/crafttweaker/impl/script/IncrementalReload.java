@@ -0,0 +1,528 @@
+package com.blamejared.crafttweaker.impl.script;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.actions.IAction;
+import com.blamejared.crafttweaker.api.actions.IRuntimeAction;
+import com.blamejared.crafttweaker.api.zencode.impl.SourceFilePreprocessed;
+import com.blamejared.crafttweaker.api.zencode.impl.util.PositionUtil;
+import com.blamejared.crafttweaker.impl.actions.recipes.ActionRecipeBase;
+import com.blamejared.crafttweaker.impl.managers.RecipeMapOverlay;
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import org.apache.commons.io.IOUtils;
+import org.openzen.zencode.shared.SourceFile;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reloads only the scripts that are affected by a change, as long as those scripts only use recipes. This has to be
+ * enabled with the {@code #incrementalreload} preprocessor, every reload is a full one otherwise.
+ *
+ * While the scripts of a reload run, every action and every access to the recipes is attributed to all script files on
+ * the stack at that point, so a function declared in one file and called from another counts for both. This gives a
+ * footprint per file: the recipe types it reads or modifies and the other systems (tags, loot, events, ...) it uses. On
+ * the next reload, the changed files and all files that share a recipe type with them are run again on top of the
+ * fresh recipe maps of those types, while the maps of all other types are taken over from the previous reload as they
+ * are. Files that didn't touch anything are always run again, since they may define functions the other files use.
+ *
+ * A full reload is done whenever that isn't safe: on the first reload, when the recipes or tags of the data packs
+ * changed, when scripts were added or reordered, when a changed script does more than using recipes, when a kept
+ * script uses a system that has to be applied again after every reload, or when the scripts that ran again can't be
+ * run on their own or touched more than was planned.
+ */
+public final class IncrementalReload {
+    
+    private static final String[] DATA_FOLDERS = {"recipes", "tags"};
+    // The script files of every applied action, for as long as the action is around
+    private static final ConcurrentMap<IAction, Set<String>> FILES = new MapMaker().weakKeys().makeMap();
+    
+    private static State previous;
+    private static Tracker tracker;
+    
+    private IncrementalReload() {}
+    
+    /**
+     * Fingerprints the recipes and tags of the data packs, which the recipe maps of a previous reload are built from.
+     * Called off-thread while the data packs are prepared.
+     *
+     * @return The fingerprint, or null if the data could not be read.
+     */
+    @Nullable
+    public static HashCode fingerprintData(IResourceManager resourceManager) {
+        
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        try {
+            for(String folder : DATA_FOLDERS) {
+                final List<ResourceLocation> locations = new ArrayList<>(resourceManager.getAllResourceLocations(folder, path -> path
+                        .endsWith(".json")));
+                Collections.sort(locations);
+                for(ResourceLocation location : locations) {
+                    hasher.putString(location.toString(), StandardCharsets.UTF_8);
+                    for(IResource resource : resourceManager.getAllResources(location)) {
+                        try(IResource opened = resource) {
+                            hasher.putString(opened.getPackName(), StandardCharsets.UTF_8);
+                            hasher.putBytes(IOUtils.toByteArray(opened.getInputStream()));
+                        }
+                    }
+                }
+            }
+        } catch(IOException e) {
+            CraftTweakerAPI.logThrowing("Could not fingerprint data packs, doing a full reload", e);
+            return null;
+        }
+        return hasher.hash();
+    }
+    
+    /**
+     * Loads the scripts for a reload of the given recipes, only running the affected ones if possible.
+     *
+     * @param overlay          The freshly installed overlay of the reloaded recipes.
+     * @param options          The options with which to load.
+     * @param dataFingerprint  The fingerprint of the reloaded data, see {@link #fingerprintData(IResourceManager)}.
+     */
+    public static void load(RecipeMapOverlay overlay, ScriptLoadingOptions options, @Nullable HashCode dataFingerprint) {
+        
+        CraftTweakerAPI.NO_BRAND = false;
+        CraftTweakerAPI.QUIET_LOG = false;
+        CraftTweakerAPI.INTERN_INGREDIENTS = false;
+        CraftTweakerAPI.INCREMENTAL_RELOAD = false;
+        final SourceFile[] sourceFiles = CraftTweakerAPI.getSourceFiles(options);
+        
+        final State state = previous;
+        previous = null;
+        if(!CraftTweakerAPI.INCREMENTAL_RELOAD) {
+            CraftTweakerAPI.loadScripts(sourceFiles, options);
+            return;
+        }
+        
+        final Map<String, HashCode> contents = hashContents(sourceFiles);
+        if(state != null && dataFingerprint != null) {
+            final Plan plan = state.plan(sourceFiles, contents, dataFingerprint);
+            if(plan != null && loadIncrementally(overlay, options, state, plan, contents)) {
+                return;
+            }
+        }
+        loadFully(overlay, options, sourceFiles, contents, dataFingerprint);
+    }
+    
+    /**
+     * Attributes the given action to the scripts that apply it, if the scripts of a reload are running on this thread.
+     */
+    public static void record(IAction action) {
+        
+        final Tracker current = getTracker();
+        if(current == null) {
+            return;
+        }
+        
+        final Set<String> files = current.findFiles();
+        if(files != null) {
+            FILES.putIfAbsent(action, files);
+            for(String file : files) {
+                current.getFootprint(file).add(action);
+            }
+        }
+    }
+    
+    /**
+     * Attributes an access to the recipes of the given type to the scripts that make it, if the scripts of a reload are
+     * running on this thread. Scripts may build their changes from the recipes they see, so reading a type ties a script
+     * to it just like modifying it does.
+     */
+    public static void recordRead(IRecipeType<?> recipeType) {
+        
+        final Tracker current = getTracker();
+        if(current == null) {
+            return;
+        }
+        
+        final Set<String> files = current.findFiles();
+        if(files != null) {
+            for(String file : files) {
+                current.getFootprint(file).readTypes.add(recipeType);
+            }
+        }
+    }
+    
+    @Nullable
+    private static Tracker getTracker() {
+        
+        final Tracker current = tracker;
+        if(current == null || current.thread != Thread.currentThread() || !CraftTweakerAPI.getCurrentRun().isRunning()) {
+            return null;
+        }
+        return current;
+    }
+    
+    private static void loadFully(RecipeMapOverlay overlay, ScriptLoadingOptions options, SourceFile[] sourceFiles, Map<String, HashCode> contents, @Nullable HashCode dataFingerprint) {
+        
+        final Tracker current = startTracking();
+        try {
+            CraftTweakerAPI.loadScripts(sourceFiles, options);
+        } finally {
+            tracker = null;
+        }
+        
+        if(dataFingerprint != null && !current.unattributed && CraftTweakerAPI.getCurrentRun().hasExecuted()) {
+            previous = new State(overlay, dataFingerprint, contents, current.footprints);
+        }
+    }
+    
+    private static boolean loadIncrementally(RecipeMapOverlay overlay, ScriptLoadingOptions options, State state, Plan plan, Map<String, HashCode> contents) {
+        
+        // Maps of the reloaded data, restored if the affected scripts can't be run on their own
+        final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> reloaded = new HashMap<>();
+        for(Map.Entry<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> entry : plan.keptResults.entrySet()) {
+            reloaded.put(entry.getKey(), overlay.replace(entry.getKey(), entry.getValue()));
+        }
+        CraftTweakerAPI.logInfo("Reusing the recipes of %s recipe types, running %s of %s scripts again", reloaded.size(), plan.sourceFiles.length, contents
+                .size());
+        
+        final Tracker current = startTracking();
+        boolean success;
+        try {
+            success = CraftTweakerAPI.loadScriptsIncrementally(plan.sourceFiles, options, plan::isRerun);
+        } finally {
+            tracker = null;
+        }
+        
+        if(success) {
+            final String problem = plan.validate(current);
+            if(problem != null) {
+                CraftTweakerAPI.logInfo("Doing a full reload, since %s", problem);
+                success = false;
+            }
+        } else {
+            CraftTweakerAPI.logInfo("Doing a full reload, since the affected scripts can't be run on their own");
+        }
+        
+        if(!success) {
+            overlay.rollback();
+            reloaded.forEach(overlay::replace);
+            return false;
+        }
+        
+        final Map<String, Footprint> footprints = new HashMap<>(state.footprints);
+        footprints.keySet().retainAll(contents.keySet());
+        footprints.keySet().removeAll(plan.ranFiles);
+        footprints.putAll(current.footprints);
+        previous = new State(overlay, state.dataFingerprint, contents, footprints);
+        return true;
+    }
+    
+    private static Tracker startTracking() {
+        
+        final Tracker current = new Tracker(Thread.currentThread());
+        tracker = current;
+        return current;
+    }
+    
+    private static Map<String, HashCode> hashContents(SourceFile[] sourceFiles) {
+        
+        final Map<String, HashCode> contents = new LinkedHashMap<>();
+        for(SourceFile sourceFile : sourceFiles) {
+            final Hasher hasher = Hashing.murmur3_128().newHasher();
+            if(sourceFile instanceof SourceFilePreprocessed) {
+                for(String line : ((SourceFilePreprocessed) sourceFile).getFileContent()) {
+                    hasher.putString(line, StandardCharsets.UTF_8).putChar('\n');
+                }
+            } else {
+                // Unknown sources are never considered unchanged
+                hasher.putInt(System.identityHashCode(sourceFile));
+            }
+            contents.put(sourceFile.getFilename(), hasher.hash());
+        }
+        return contents;
+    }
+    
+    private static String getSystemName(IAction action) {
+        
+        final String className = action.getClass().getName();
+        final String packageName = className.substring(0, Math.max(className.lastIndexOf('.'), 0));
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+    
+    /**
+     * What the actions of a single script file touched.
+     */
+    private static final class Footprint {
+        
+        private final Set<IRecipeType<?>> recipeTypes = new HashSet<>();
+        private final Set<IRecipeType<?>> readTypes = new HashSet<>();
+        private final Set<String> systems = new TreeSet<>();
+        // Systems of runtime actions, which are applied again after every reload
+        private final Set<String> runtimeSystems = new TreeSet<>();
+        
+        private void add(IAction action) {
+            
+            if(action instanceof ActionRecipeBase) {
+                recipeTypes.add(((ActionRecipeBase) action).getRecipeType());
+                return;
+            }
+            
+            final String system = getSystemName(action);
+            systems.add(system);
+            if(action instanceof IRuntimeAction) {
+                runtimeSystems.add(system);
+            }
+        }
+        
+        private boolean isRecipesOnly() {
+            
+            return systems.isEmpty();
+        }
+        
+        /**
+         * The recipe types the file either reads or modifies, all of which have to be rebuilt if the file runs again.
+         */
+        private Set<IRecipeType<?>> getUsedTypes() {
+            
+            final Set<IRecipeType<?>> usedTypes = new HashSet<>(recipeTypes);
+            usedTypes.addAll(readTypes);
+            return usedTypes;
+        }
+        
+        private boolean sharesRecipeType(Set<IRecipeType<?>> others) {
+            
+            return !Collections.disjoint(recipeTypes, others) || !Collections.disjoint(readTypes, others);
+        }
+    }
+    
+    private static final class Tracker {
+        
+        private final Thread thread;
+        private final Map<String, Footprint> footprints = new HashMap<>();
+        private boolean unattributed;
+        
+        private Tracker(Thread thread) {
+            
+            this.thread = thread;
+        }
+        
+        /**
+         * Finds the script files that are currently on the stack, marking the run as unattributed if there are none.
+         *
+         * @return The file names, or null if no script is on the stack.
+         */
+        @Nullable
+        private Set<String> findFiles() {
+            
+            final Set<String> files = PositionUtil.getZCScriptFileNamesFromStackTrace();
+            if(files.isEmpty()) {
+                unattributed = true;
+                return null;
+            }
+            return files;
+        }
+        
+        private Footprint getFootprint(String file) {
+            
+            return footprints.computeIfAbsent(file, name -> new Footprint());
+        }
+    }
+    
+    /**
+     * The scripts of a reload that are run again.
+     */
+    private static final class Plan {
+        
+        private final SourceFile[] sourceFiles;
+        private final Set<String> ranFiles;
+        private final Set<String> rerunFiles;
+        private final Set<IRecipeType<?>> recipeTypes;
+        // Recipes of the previous reload for every type that isn't modified again
+        private final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> keptResults;
+        
+        private Plan(SourceFile[] sourceFiles, Set<String> rerunFiles, Set<IRecipeType<?>> recipeTypes, Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> keptResults) {
+            
+            this.sourceFiles = sourceFiles;
+            this.ranFiles = new HashSet<>();
+            for(SourceFile sourceFile : sourceFiles) {
+                ranFiles.add(sourceFile.getFilename());
+            }
+            this.rerunFiles = rerunFiles;
+            this.recipeTypes = recipeTypes;
+            this.keptResults = keptResults;
+        }
+        
+        /**
+         * Whether the given action of the previous reload was applied by one of the scripts that are run again.
+         */
+        private boolean isRerun(IAction action) {
+            
+            final Set<String> files = FILES.get(action);
+            return files != null && !Collections.disjoint(files, rerunFiles);
+        }
+        
+        /**
+         * Checks that every script that ran again, changed or not, still only uses the planned recipe types, and that no
+         * script that was kept got involved.
+         *
+         * @return The problem, or null if the run is fine.
+         */
+        @Nullable
+        private String validate(Tracker result) {
+            
+            if(result.unattributed) {
+                return "some actions could not be attributed to a script";
+            }
+            for(Map.Entry<String, Footprint> entry : result.footprints.entrySet()) {
+                final String file = entry.getKey();
+                final Footprint footprint = entry.getValue();
+                if(!ranFiles.contains(file)) {
+                    return String.format("'%s' was not run again, but is used by the scripts that were", file);
+                }
+                if(!footprint.isRecipesOnly()) {
+                    return String.format("'%s' does more than using recipes now", file);
+                }
+                if(!recipeTypes.containsAll(footprint.getUsedTypes())) {
+                    return String.format("'%s' uses new recipe types now", file);
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * What is known about the previous reload.
+     */
+    private static final class State {
+        
+        private final HashCode dataFingerprint;
+        private final Map<String, HashCode> contents;
+        private final Map<String, Footprint> footprints;
+        // Recipes of every modified type after the reload, given up if memory runs low
+        private final Map<IRecipeType<?>, SoftReference<Map<ResourceLocation, IRecipe<?>>>> results = new HashMap<>();
+        
+        private State(RecipeMapOverlay overlay, HashCode dataFingerprint, Map<String, HashCode> contents, Map<String, Footprint> footprints) {
+            
+            this.dataFingerprint = dataFingerprint;
+            this.contents = contents;
+            this.footprints = footprints;
+            for(Footprint footprint : footprints.values()) {
+                for(IRecipeType<?> recipeType : footprint.recipeTypes) {
+                    results.computeIfAbsent(recipeType, type -> new SoftReference<>(overlay.view(type)));
+                }
+            }
+        }
+        
+        /**
+         * Plans which scripts have to run again.
+         *
+         * @return The plan, or null if a full reload is needed.
+         */
+        @Nullable
+        private Plan plan(SourceFile[] sourceFiles, Map<String, HashCode> newContents, HashCode newDataFingerprint) {
+            
+            if(!dataFingerprint.equals(newDataFingerprint)) {
+                return reject("the recipes or tags of the data packs changed");
+            }
+            
+            final List<String> keptOrder = new ArrayList<>(contents.keySet());
+            keptOrder.retainAll(newContents.keySet());
+            final Set<String> changedFiles = new HashSet<>();
+            for(String file : newContents.keySet()) {
+                final HashCode content = contents.get(file);
+                if(content == null) {
+                    return reject(String.format("'%s' is a new script", file));
+                }
+                if(!content.equals(newContents.get(file))) {
+                    changedFiles.add(file);
+                }
+            }
+            if(!keptOrder.equals(new ArrayList<>(newContents.keySet()))) {
+                return reject("the load order of the scripts changed");
+            }
+            for(String file : contents.keySet()) {
+                if(!newContents.containsKey(file)) {
+                    changedFiles.add(file);
+                }
+            }
+            
+            final Set<IRecipeType<?>> recipeTypes = new HashSet<>();
+            for(String file : changedFiles) {
+                final Footprint footprint = footprints.get(file);
+                if(footprint == null) {
+                    // Run again anyway, what it does now is checked afterwards
+                    continue;
+                }
+                if(!footprint.isRecipesOnly()) {
+                    return reject(String.format("'%s' did more than using recipes", file));
+                }
+                recipeTypes.addAll(footprint.getUsedTypes());
+            }
+            
+            // Scripts that use one of the types are run again, which may pull in the other types they use
+            final Set<String> rerunFiles = new HashSet<>(changedFiles);
+            boolean grown = true;
+            while(grown) {
+                grown = false;
+                for(Map.Entry<String, Footprint> entry : footprints.entrySet()) {
+                    final Footprint footprint = entry.getValue();
+                    if(rerunFiles.contains(entry.getKey()) || !footprint.sharesRecipeType(recipeTypes)) {
+                        continue;
+                    }
+                    if(!footprint.isRecipesOnly()) {
+                        return reject(String.format("'%s' uses the same recipes as a changed script and also uses %s", entry
+                                .getKey(), footprint.systems));
+                    }
+                    rerunFiles.add(entry.getKey());
+                    grown |= recipeTypes.addAll(footprint.getUsedTypes());
+                }
+            }
+            
+            final List<SourceFile> rerun = new ArrayList<>();
+            for(SourceFile sourceFile : sourceFiles) {
+                final String file = sourceFile.getFilename();
+                final Footprint footprint = footprints.get(file);
+                if(footprint == null || rerunFiles.contains(file)) {
+                    rerun.add(sourceFile);
+                } else if(!footprint.runtimeSystems.isEmpty()) {
+                    return reject(String.format("'%s' uses %s, which has to be applied again after a reload", file, footprint.runtimeSystems));
+                }
+            }
+            
+            final Map<IRecipeType<?>, Map<ResourceLocation, IRecipe<?>>> keptResults = new HashMap<>();
+            for(Map.Entry<IRecipeType<?>, SoftReference<Map<ResourceLocation, IRecipe<?>>>> entry : results.entrySet()) {
+                if(recipeTypes.contains(entry.getKey())) {
+                    continue;
+                }
+                final Map<ResourceLocation, IRecipe<?>> recipes = entry.getValue().get();
+                if(recipes == null) {
+                    return reject("the recipes of the previous reload are gone");
+                }
+                keptResults.put(entry.getKey(), recipes);
+            }
+            return new Plan(rerun.toArray(new SourceFile[0]), rerunFiles, recipeTypes, keptResults);
+        }
+        
+        @Nullable
+        private static Plan reject(String reason) {
+            
+            CraftTweakerAPI.logInfo("Doing a full reload, since %s", reason);
+            return null;
+        }
+    }
+    
+}
@@ -0,0 +1,181 @@
+package com.blamejared.crafttweaker.impl.script;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.LoaderActions;
+import com.blamejared.crafttweaker.api.zencode.impl.loaders.ScriptRun;
+import com.blamejared.crafttweaker.impl.logger.DeferredLogger;
+import com.blamejared.crafttweaker.impl.logger.DiagnosticsLogger;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.openzen.zencode.shared.SourceFile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Checks the syntax of the scripts of all known loaders on a background thread, used by {@code /ct syntax} and
+ * {@code /ct format}.
+ *
+ * The scripts are only parsed and validated, never executed, and the current script run is left untouched. Every
+ * warning and error is written to {@link #REPORT_FILE}, including the ones reported through the log methods of
+ * {@link CraftTweakerAPI}, like unknown brackets.
+ *
+ * Everything that touches game state, like reading the scripts and posting events, happens on the calling thread. What
+ * the check logs is handed back to the server thread once a loader is done, since player loggers send chat messages.
+ */
+public final class ScriptChecker {
+    
+    public static final File REPORT_FILE = new File("logs/crafttweaker_diagnostics.json");
+    
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "CraftTweaker Script Checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private ScriptChecker() {}
+    
+    public static boolean isRunning() {
+        
+        return RUNNING.get();
+    }
+    
+    /**
+     * Starts checking the scripts, unless a check is already running.
+     *
+     * The scripts are read and preprocessed on the calling thread, parsing and validating them happens in the
+     * background.
+     *
+     * @param format         Whether the scripts should also be formatted, see {@link ScriptLoadingOptions#format()}
+     * @param progress       Receives a message whenever a loader is started or finished, called from the background thread
+     * @param serverExecutor Runs the logging of each checked loader on the thread that owns the loggers
+     *
+     * @return A future for the written report file, or {@code null} if a check is already running.
+     */
+    public static CompletableFuture<File> start(boolean format, Consumer<String> progress, Executor serverExecutor) {
+        
+        if(!RUNNING.compareAndSet(false, true)) {
+            return null;
+        }
+        
+        final List<Check> checks = new ArrayList<>();
+        try {
+            readSourceFiles(format).forEach((loader, sourceFiles) -> checks.add(new Check(loader, sourceFiles, format)));
+        } catch(RuntimeException e) {
+            RUNNING.set(false);
+            throw e;
+        }
+        
+        return CompletableFuture.supplyAsync(() -> check(checks, progress, serverExecutor), EXECUTOR)
+                .whenComplete((file, throwable) -> RUNNING.set(false));
+    }
+    
+    private static Map<String, SourceFile[]> readSourceFiles(boolean format) {
+        
+        // Preprocessors set these while reading, a check must not change them for the actual scripts
+        final boolean noBrand = CraftTweakerAPI.NO_BRAND;
+        final boolean quietLog = CraftTweakerAPI.QUIET_LOG;
+        final boolean internIngredients = CraftTweakerAPI.INTERN_INGREDIENTS;
+        final boolean incrementalReload = CraftTweakerAPI.INCREMENTAL_RELOAD;
+        try {
+            final Map<String, SourceFile[]> sourceFiles = new LinkedHashMap<>();
+            for(String loader : LoaderActions.getKnownLoaderNames()) {
+                sourceFiles.put(loader, CraftTweakerAPI.getSourceFiles(createOptions(loader, format)));
+            }
+            return sourceFiles;
+        } finally {
+            CraftTweakerAPI.NO_BRAND = noBrand;
+            CraftTweakerAPI.QUIET_LOG = quietLog;
+            CraftTweakerAPI.INTERN_INGREDIENTS = internIngredients;
+            CraftTweakerAPI.INCREMENTAL_RELOAD = incrementalReload;
+        }
+    }
+    
+    private static ScriptLoadingOptions createOptions(String loader, boolean format) {
+        
+        return new ScriptLoadingOptions().setLoaderName(loader).setFormat(format);
+    }
+    
+    private static File check(List<Check> checks, Consumer<String> progress, Executor serverExecutor) {
+        
+        final JsonObject report = new JsonObject();
+        int problems = 0;
+        for(Check check : checks) {
+            progress.accept(String.format("Checking %s scripts for loader '%s'", check.scriptCount, check.loader));
+            
+            CraftTweakerAPI.setThreadLogger(check.logger);
+            try {
+                check.run.run();
+            } catch(Exception e) {
+                check.logger.throwingErr("Error checking scripts for loader '" + check.loader + "'", e);
+            } finally {
+                CraftTweakerAPI.setThreadLogger(null);
+            }
+            serverExecutor.execute(check.output::replay);
+            
+            final int loaderProblems = check.logger.getDiagnostics().size();
+            problems += loaderProblems;
+            report.add(check.loader, check.logger.toJson());
+            progress.accept(String.format("Loader '%s' has %s problems", check.loader, loaderProblems));
+        }
+        
+        try {
+            writeReport(report);
+        } catch(IOException e) {
+            CraftTweakerAPI.logThrowing("Could not write script diagnostics", e);
+            throw new IllegalStateException("Could not write script diagnostics", e);
+        }
+        progress.accept(String.format("Finished checking scripts, found %s problems", problems));
+        return REPORT_FILE;
+    }
+    
+    private static void writeReport(JsonObject report) throws IOException {
+        
+        if(!REPORT_FILE.getParentFile().exists() && !REPORT_FILE.getParentFile().mkdirs()) {
+            throw new IOException("Could not create folder " + REPORT_FILE.getParentFile().getAbsolutePath());
+        }
+        try(Writer writer = new OutputStreamWriter(new FileOutputStream(REPORT_FILE), StandardCharsets.UTF_8)) {
+            GSON.toJson(report, writer);
+        }
+    }
+    
+    /**
+     * The run of one loader, created on the calling thread so its bracket parser event is posted there.
+     */
+    private static final class Check {
+        
+        private final String loader;
+        private final int scriptCount;
+        private final DeferredLogger output;
+        private final DiagnosticsLogger logger;
+        private final ScriptRun run;
+        
+        private Check(String loader, SourceFile[] sourceFiles, boolean format) {
+            
+            this.loader = loader;
+            this.scriptCount = sourceFiles.length;
+            this.output = new DeferredLogger(CraftTweakerAPI.logger);
+            this.logger = new DiagnosticsLogger(output);
+            this.run = new ScriptRun(createOptions(loader, format), sourceFiles, logger);
+            this.run.initializeBracketParser();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.impl_native.server;
 
 import com.blamejared.crafttweaker.api.annotations.ZenRegister;
+import com.blamejared.crafttweaker.impl.game.MCParsedCommand;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import net.minecraft.entity.player.PlayerEntity;
@@ -64,4 +65,20 @@ public class ExpandServer {
         return internal.getCommandManager().handleCommand(player.getCommandSource(), command);
     }
     
+    /**
+     * Parses a command once, so it can be executed many times without being parsed again.
+     * Use this for commands that are run often, for example from event handlers.
+     *
+     * @param command The command to parse
+     * @param player  The player the command is parsed for, the command is parsed for the server if no player is given
+     *
+     * @docParam command "weather clear"
+     * @docParam player player
+     */
+    @ZenCodeType.Method
+    public static MCParsedCommand parseCommand(MinecraftServer internal, String command, @ZenCodeType.Optional PlayerEntity player) {
+        
+        return new MCParsedCommand(internal, command, player);
+    }
+    
 }
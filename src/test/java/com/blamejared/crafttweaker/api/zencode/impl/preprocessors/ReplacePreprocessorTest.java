@@ -0,0 +1,65 @@
+package com.blamejared.crafttweaker.api.zencode.impl.preprocessors;
+
+import com.blamejared.crafttweaker.api.*;
+import com.blamejared.crafttweaker.api.zencode.impl.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.util.*;
+
+class ReplacePreprocessorTest {
+    
+    public final ReplacePreprocessor preprocessorUnderTest = new ReplacePreprocessor();
+    
+    @BeforeEach
+    void setUp() {
+        CraftTweakerAPI.logger = new TestLogger();
+    }
+    
+    @Test
+    void singleReplaceIsAppliedToEveryLine() {
+        final FileAccessSingle file = getFile("#replace foo bar", "var foo = 1;", "println(foo + foo);");
+        final List<String> fileContents = file.getFileContents();
+        Assertions.assertEquals("var bar = 1;", fileContents.get(1));
+        Assertions.assertEquals("println(bar + bar);", fileContents.get(2));
+    }
+    
+    @Test
+    void laterReplacesSeeTheResultOfEarlierOnes() {
+        final FileAccessSingle file = getFile("#replace a b", "#replace b c", "abc");
+        Assertions.assertEquals("ccc", file.getFileContents().get(2));
+    }
+    
+    @Test
+    void replacementsMayUseGroupReferences() {
+        final FileAccessSingle file = getFile("#replace <i:(\\w+)> <item:minecraft:$1>", "var x = <i:dirt>;");
+        Assertions.assertEquals("var x = <item:minecraft:dirt>;", file.getFileContents().get(1));
+    }
+    
+    @Test
+    void invalidRegexIsSkipped() {
+        final FileAccessSingle file = getFile("#replace ([ broken", "#replace foo bar", "foo ([");
+        Assertions.assertEquals("bar ([", file.getFileContents().get(2));
+    }
+    
+    @Test
+    void sourceFileReadsLinesFollowedBySeparators() throws IOException {
+        final FileAccessSingle file = getFile("#replace foo bar", "foo", "", "foo foo");
+        final StringBuilder builder = new StringBuilder();
+        try(Reader reader = file.getSourceFile().open()) {
+            final char[] buffer = new char[3];
+            int read;
+            while((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+        }
+        final String expected = String.join(System.lineSeparator(), file.getFileContents()) + System.lineSeparator();
+        Assertions.assertEquals(expected, builder.toString());
+    }
+    
+    private FileAccessSingle getFile(String... lines) {
+        return new FileAccessSingle("test.zs", new StringReader(String.join(System.lineSeparator(), lines)), new ScriptLoadingOptions()
+                .execute()
+                .setLoaderName("crafttweaker"), Collections.singletonList(preprocessorUnderTest));
+    }
+}
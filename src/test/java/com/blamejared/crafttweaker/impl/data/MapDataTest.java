@@ -0,0 +1,60 @@
+package com.blamejared.crafttweaker.impl.data;
+
+import com.blamejared.crafttweaker.api.data.*;
+import net.minecraft.nbt.*;
+import org.junit.jupiter.api.*;
+
+class MapDataTest {
+    
+    @Test
+    void childWrapperIsReusedUntilTheEntryChanges() {
+        final MapData data = new MapData();
+        data.setAt("child", new MapData());
+        
+        final IData child = data.getAt("child");
+        Assertions.assertSame(child, data.getAt("child"));
+        
+        data.setAt("child", new StringData("replaced"));
+        Assertions.assertEquals("replaced", data.getAt("child").asString());
+    }
+    
+    @Test
+    void directChangesToTheCompoundAreSeen() {
+        final MapData data = new MapData();
+        data.setAt("value", new IntData(1));
+        Assertions.assertEquals(1, data.getAt("value").asNumber().getInt());
+        
+        data.getInternal().putInt("value", 2);
+        Assertions.assertEquals(2, data.getAt("value").asNumber().getInt());
+        
+        data.getInternal().remove("value");
+        Assertions.assertNull(data.getAt("value"));
+    }
+    
+    @Test
+    void writesThroughACachedChildAreVisible() {
+        final MapData data = new MapData();
+        data.setAt("child", new MapData());
+        
+        ((MapData) data.getAt("child")).setAt("inner", new StringData("value"));
+        Assertions.assertEquals("value", data.getInternal().getCompound("child").getString("inner"));
+    }
+    
+    @Test
+    void putStillReturnsThePreviousValue() {
+        final MapData data = new MapData();
+        Assertions.assertNull(data.put("key", new IntData(1)));
+        Assertions.assertEquals(1, data.put("key", new IntData(2)).asNumber().getInt());
+        Assertions.assertEquals(IntNBT.valueOf(2), data.putRaw("key", new IntData(3)));
+    }
+    
+    @Test
+    void overwritingABoolDropsTheBoolMarker() {
+        final MapData data = new MapData();
+        data.setAt("flag", new BoolData(true));
+        Assertions.assertTrue(data.getAt("flag") instanceof BoolData);
+        
+        data.setAt("flag", new IntData(5));
+        Assertions.assertEquals(5, data.getAt("flag").asNumber().getInt());
+    }
+}
@@ -0,0 +1,57 @@
+package com.blamejared.crafttweaker.impl.events;
+
+import com.blamejared.crafttweaker.api.*;
+import net.minecraftforge.eventbus.api.*;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Compares registering every script handler on the bus (the old scheme) against one multiplexer per event.
+ * Only run by the benchmark task, timings are printed instead of asserted.
+ */
+@Tag("benchmark")
+class EventHandlerMultiplexerBenchmark {
+    
+    private static final int HANDLER_COUNT = 50;
+    private static final int WARMUP_EVENTS = 20_000;
+    private static final int MEASURED_EVENTS = 100_000;
+    
+    @BeforeEach
+    void setUp() {
+        CraftTweakerAPI.logger = new TestLogger();
+    }
+    
+    @Test
+    void multiplexedDispatchAgainstOneListenerPerHandler() {
+        final AtomicLong separateCalls = new AtomicLong();
+        final IEventBus separateBus = BusBuilder.builder().build();
+        for(int i = 0; i < HANDLER_COUNT; i++) {
+            separateBus.addListener(EventPriority.NORMAL, false, Event.class, new EventHandlerWrapper<>(event -> separateCalls.incrementAndGet()));
+        }
+        
+        final AtomicLong multiplexedCalls = new AtomicLong();
+        final IEventBus multiplexedBus = BusBuilder.builder().build();
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        for(int i = 0; i < HANDLER_COUNT; i++) {
+            multiplexer.add(new EventHandlerWrapper<>(event -> multiplexedCalls.incrementAndGet()));
+        }
+        multiplexedBus.addListener(EventPriority.NORMAL, false, Event.class, multiplexer);
+        
+        post(separateBus, WARMUP_EVENTS);
+        post(multiplexedBus, WARMUP_EVENTS);
+        final long separateNanos = post(separateBus, MEASURED_EVENTS);
+        final long multiplexedNanos = post(multiplexedBus, MEASURED_EVENTS);
+        
+        Assertions.assertEquals(separateCalls.get(), multiplexedCalls.get(), "Both schemes must call every handler for every event");
+        System.out.printf("Multiplexed dispatch: %.1f ns/event, one listener per handler: %.1f ns/event%n", multiplexedNanos / (double) MEASURED_EVENTS, separateNanos / (double) MEASURED_EVENTS);
+    }
+    
+    private static long post(IEventBus bus, int events) {
+        final long start = System.nanoTime();
+        for(int i = 0; i < events; i++) {
+            bus.post(new Event());
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,118 @@
+package com.blamejared.crafttweaker.impl.events;
+
+import com.blamejared.crafttweaker.api.*;
+import net.minecraftforge.eventbus.api.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+class EventHandlerMultiplexerTest {
+    
+    private static final int HANDLER_COUNT = 50;
+    
+    @BeforeEach
+    void setUp() {
+        CraftTweakerAPI.logger = new TestLogger();
+    }
+    
+    @Test
+    void everyHandlerReceivesTheEvent() {
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        final AtomicInteger calls = new AtomicInteger();
+        for(int i = 0; i < HANDLER_COUNT; i++) {
+            multiplexer.add(new EventHandlerWrapper<>(event -> calls.incrementAndGet()));
+        }
+        
+        multiplexer.accept(new Event());
+        Assertions.assertEquals(HANDLER_COUNT, calls.get());
+    }
+    
+    @Test
+    void removedHandlerIsNoLongerCalled() {
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final EventHandlerWrapper<Event> removed = new EventHandlerWrapper<>(event -> Assertions.fail("Removed handler was called"));
+        multiplexer.add(new EventHandlerWrapper<>(event -> calls.incrementAndGet()));
+        multiplexer.add(removed);
+        
+        multiplexer.remove(removed);
+        Assertions.assertEquals(1, multiplexer.size(), "Removed handlers should be dropped right away");
+        multiplexer.accept(new Event());
+        Assertions.assertEquals(1, calls.get());
+    }
+    
+    @Test
+    void failingHandlerDoesNotStopOthersAndIsEventuallyDisabled() {
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final EventHandlerWrapper<Event> failing = new EventHandlerWrapper<>(event -> {
+            failures.incrementAndGet();
+            throw new IllegalStateException("Failing handler");
+        });
+        multiplexer.add(failing);
+        multiplexer.add(new EventHandlerWrapper<>(event -> calls.incrementAndGet()));
+        
+        final int events = EventHandlerWrapper.MAX_CONSECUTIVE_FAILURES * 2;
+        for(int i = 0; i < events; i++) {
+            multiplexer.accept(new Event());
+        }
+        Assertions.assertEquals(events, calls.get());
+        Assertions.assertEquals(EventHandlerWrapper.MAX_CONSECUTIVE_FAILURES, failures.get());
+        Assertions.assertFalse(failing.isActive());
+        Assertions.assertTrue(multiplexer.isDirty(), "Disabled handlers should mark the multiplexer as dirty");
+        
+        multiplexer.add(new EventHandlerWrapper<>(event -> calls.incrementAndGet()));
+        Assertions.assertFalse(multiplexer.isDirty());
+        Assertions.assertEquals(2, multiplexer.size(), "Disabled handlers should be dropped on the next swap");
+    }
+    
+    @Test
+    void canceledEventIsNotPassedToLaterHandlers() {
+        final EventHandlerMultiplexer<CancelableTestEvent> multiplexer = new EventHandlerMultiplexer<>();
+        multiplexer.add(new EventHandlerWrapper<>(event -> event.setCanceled(true)));
+        multiplexer.add(new EventHandlerWrapper<>(event -> Assertions.fail("Canceled event was passed on")));
+        
+        multiplexer.accept(new CancelableTestEvent());
+    }
+    
+    @Test
+    void removeAllDropsEveryGivenHandlerAtOnce() {
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final List<EventHandlerWrapper<Event>> removed = new ArrayList<>();
+        for(int i = 0; i < HANDLER_COUNT; i++) {
+            final EventHandlerWrapper<Event> handler = new EventHandlerWrapper<>(event -> Assertions.fail("Removed handler was called"));
+            multiplexer.add(handler);
+            removed.add(handler);
+        }
+        multiplexer.add(new EventHandlerWrapper<>(event -> calls.incrementAndGet()));
+        
+        multiplexer.removeAll(removed);
+        Assertions.assertEquals(1, multiplexer.size());
+        multiplexer.accept(new Event());
+        Assertions.assertEquals(1, calls.get());
+        removed.forEach(handler -> Assertions.assertFalse(handler.isActive()));
+    }
+    
+    @Test
+    void removingEveryHandlerLeavesNoHandlers() {
+        final EventHandlerMultiplexer<Event> multiplexer = new EventHandlerMultiplexer<>();
+        final List<EventHandlerWrapper<Event>> removed = new ArrayList<>();
+        for(int i = 0; i < HANDLER_COUNT; i++) {
+            final EventHandlerWrapper<Event> handler = new EventHandlerWrapper<>(event -> Assertions.fail("Removed handler was called"));
+            multiplexer.add(handler);
+            removed.add(handler);
+        }
+        
+        multiplexer.removeAll(removed);
+        Assertions.assertEquals(0, multiplexer.size());
+        multiplexer.accept(new Event());
+    }
+    
+    @Cancelable
+    public static class CancelableTestEvent extends Event {
+    
+    }
+}
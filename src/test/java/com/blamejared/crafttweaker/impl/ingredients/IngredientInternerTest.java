@@ -0,0 +1,56 @@
+package com.blamejared.crafttweaker.impl.ingredients;
+
+import com.blamejared.crafttweaker.api.*;
+import com.blamejared.crafttweaker.api.item.*;
+import com.blamejared.crafttweaker.impl.data.*;
+import com.blamejared.crafttweaker.impl.item.*;
+import net.minecraft.item.*;
+import net.minecraft.util.registry.*;
+import org.junit.jupiter.api.*;
+
+class IngredientInternerTest {
+    
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        CraftTweakerAPI.logger = new TestLogger();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        IngredientInterner.finishRun(null);
+    }
+    
+    @Test
+    void editingTheTagOfAnInternedStackDoesNotChangeOtherUses() {
+        final IItemStack first = IngredientInterner.internFor(null, new MCItemStack(new ItemStack(Items.DIAMOND)));
+        final IItemStack second = IngredientInterner.internFor(null, new MCItemStack(new ItemStack(Items.DIAMOND)));
+        Assertions.assertSame(first, second, "Equal brackets should share one instance");
+        final int hash = second.hashCode();
+        
+        ((MapData) first.getOrCreateTag()).put("edited", new StringData("yes"));
+        first.getTag();
+        
+        Assertions.assertFalse(second.getInternal().hasTag(), "Editing the tag through one use must not change the others");
+        Assertions.assertEquals(hash, second.hashCode());
+        Assertions.assertSame(second, IngredientInterner.internFor(null, new MCItemStack(new ItemStack(Items.DIAMOND))), "The canonical instance must still be found");
+    }
+    
+    @Test
+    void editingTheTagOfAnInternedStackWithTagDoesNotChangeOtherUses() {
+        final ItemStack tagged = new ItemStack(Items.DIAMOND);
+        tagged.getOrCreateTag().putString("name", "original");
+        final IItemStack first = IngredientInterner.internFor(null, new MCItemStack(tagged.copy()));
+        final IItemStack second = IngredientInterner.internFor(null, new MCItemStack(tagged.copy()));
+        Assertions.assertSame(first, second, "Equal brackets should share one instance");
+        
+        ((MapData) first.getTag()).put("name", new StringData("edited"));
+        
+        Assertions.assertEquals("original", second.getInternal().getTag().getString("name"));
+        Assertions.assertSame(second, IngredientInterner.internFor(null, new MCItemStack(tagged.copy())), "The canonical instance must still be found");
+    }
+}
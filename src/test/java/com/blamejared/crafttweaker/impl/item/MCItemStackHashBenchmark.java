@@ -0,0 +1,89 @@
+package com.blamejared.crafttweaker.impl.item;
+
+import net.minecraft.item.*;
+import net.minecraft.nbt.*;
+import net.minecraft.util.registry.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+/**
+ * Compares hashing stacks with heavy tags, a shulker box full of written books and a single written book, through the
+ * cached {@link MCItemStack#hashCode()} against hashing the whole tag every time.
+ * Only run by the benchmark task, timings are printed instead of asserted.
+ */
+@Tag("benchmark")
+class MCItemStackHashBenchmark {
+    
+    private static final int PAGES = 50;
+    private static final int WARMUP_HASHES = 2_000;
+    private static final int MEASURED_HASHES = 20_000;
+    
+    @BeforeAll
+    static void setUp() {
+        Bootstrap.register();
+    }
+    
+    @Test
+    void shulkerBoxOfWrittenBooks() {
+        final ItemStack shulkerBox = new ItemStack(Items.SHULKER_BOX);
+        final ListNBT items = new ListNBT();
+        for(int slot = 0; slot < 27; slot++) {
+            final CompoundNBT item = writtenBook().write(new CompoundNBT());
+            item.putByte("Slot", (byte) slot);
+            items.add(item);
+        }
+        shulkerBox.getOrCreateChildTag("BlockEntityTag").put("Items", items);
+        compare("Shulker box of written books", shulkerBox);
+    }
+    
+    @Test
+    void writtenBook() {
+        compare("Written book", writtenBook());
+    }
+    
+    private static ItemStack writtenBook() {
+        final ItemStack book = new ItemStack(Items.WRITTEN_BOOK);
+        final CompoundNBT tag = book.getOrCreateTag();
+        tag.putString("title", "Benchmark");
+        tag.putString("author", "CraftTweaker");
+        final ListNBT pages = new ListNBT();
+        for(int page = 0; page < PAGES; page++) {
+            pages.add(StringNBT.valueOf("{\"text\":\"Page " + page + " of a book that is only written to be hashed over and over again\"}"));
+        }
+        tag.put("pages", pages);
+        return book;
+    }
+    
+    private static void compare(String name, ItemStack stack) {
+        final MCItemStack cached = new MCItemStack(stack);
+        hashCached(cached, WARMUP_HASHES);
+        hashUncached(stack, WARMUP_HASHES);
+        
+        long start = System.nanoTime();
+        final int cachedHash = hashCached(cached, MEASURED_HASHES);
+        final long cachedNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        final int uncachedHash = hashUncached(stack, MEASURED_HASHES);
+        final long uncachedNanos = System.nanoTime() - start;
+        
+        Assertions.assertEquals(uncachedHash, cachedHash, "Caching must not change the hash");
+        System.out.printf("%s: cached %.1f ns/hash, uncached %.1f ns/hash%n", name, cachedNanos / (double) MEASURED_HASHES, uncachedNanos / (double) MEASURED_HASHES);
+    }
+    
+    private static int hashCached(MCItemStack stack, int hashes) {
+        int hash = 0;
+        for(int i = 0; i < hashes; i++) {
+            hash = stack.hashCode();
+        }
+        return hash;
+    }
+    
+    private static int hashUncached(ItemStack stack, int hashes) {
+        int hash = 0;
+        for(int i = 0; i < hashes; i++) {
+            hash = Objects.hash(stack.getCount(), stack.getItem(), stack.getTag());
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,52 @@
+package com.blamejared.crafttweaker.impl.loot.conditions;
+
+import com.blamejared.crafttweaker.api.loot.conditions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+class LootConditionCompilerTest {
+    
+    private static final ILootCondition OPAQUE_TRUE = context -> true;
+    private static final ILootCondition OPAQUE_FALSE = context -> false;
+    
+    @Test
+    void constantsAreFolded() {
+        Assertions.assertSame(LootConditionCompiler.FALSE, LootConditionCompiler.and(Arrays.asList(OPAQUE_TRUE, LootConditionCompiler.FALSE)));
+        Assertions.assertSame(LootConditionCompiler.TRUE, LootConditionCompiler.or(Arrays.asList(OPAQUE_FALSE, LootConditionCompiler.TRUE)));
+        Assertions.assertSame(OPAQUE_TRUE, LootConditionCompiler.and(Arrays.asList(LootConditionCompiler.TRUE, OPAQUE_TRUE)));
+        Assertions.assertSame(LootConditionCompiler.TRUE, LootConditionCompiler.and(Collections.emptyList()));
+        Assertions.assertSame(LootConditionCompiler.FALSE, LootConditionCompiler.or(Collections.emptyList()));
+        Assertions.assertSame(LootConditionCompiler.FALSE, LootConditionCompiler.not(LootConditionCompiler.TRUE));
+    }
+    
+    @Test
+    void doubleNegationIsRemoved() {
+        Assertions.assertSame(OPAQUE_FALSE, LootConditionCompiler.not(LootConditionCompiler.not(OPAQUE_FALSE)));
+    }
+    
+    @Test
+    void nestedGatesKeepTheirMeaning() {
+        final ILootCondition nested = LootConditionCompiler.and(Arrays.asList(
+                OPAQUE_TRUE,
+                LootConditionCompiler.and(Arrays.asList(OPAQUE_TRUE, OPAQUE_TRUE)),
+                LootConditionCompiler.or(Arrays.asList(OPAQUE_FALSE, LootConditionCompiler.not(OPAQUE_FALSE)))));
+        Assertions.assertTrue(nested.test(null));
+        
+        final ILootCondition failing = LootConditionCompiler.or(Arrays.asList(
+                OPAQUE_FALSE,
+                LootConditionCompiler.or(Arrays.asList(OPAQUE_FALSE, LootConditionCompiler.and(Arrays.asList(OPAQUE_TRUE, OPAQUE_FALSE))))));
+        Assertions.assertFalse(failing.test(null));
+    }
+    
+    @Test
+    void directConditionsShortCircuitFirst() {
+        final AtomicInteger opaqueCalls = new AtomicInteger();
+        final ILootCondition opaque = context -> opaqueCalls.incrementAndGet() > 0;
+        final ILootCondition direct = (LootConditionCompiler.DirectCondition) context -> false;
+        
+        Assertions.assertFalse(LootConditionCompiler.and(Arrays.asList(opaque, direct)).test(null));
+        Assertions.assertEquals(0, opaqueCalls.get());
+    }
+}